@@ -0,0 +1,32 @@
+package client;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * CardMessageBenchmark
+ * =================================================
+ * 클라이언트가 카드 메시지를 해석하는 비용 측정 (Swing 없이)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardMessageBenchmark {
+
+    private final String cards = "GAME:CARD:PLAYER1:spade-A,heart-10,club-5,diamond-K";
+    private final String cardAdd = "GAME:CARD_ADD:DEALER:heart-Q";
+
+    @Benchmark
+    public CardMessage parseCards() {
+        return CardMessage.parseCards(cards);
+    }
+
+    @Benchmark
+    public CardMessage parseCardAdd() {
+        return CardMessage.parseCardAdd(cardAdd);
+    }
+}
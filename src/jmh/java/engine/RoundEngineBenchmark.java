@@ -0,0 +1,64 @@
+package engine;
+
+import model.Player;
+import model.Shoe;
+import org.openjdk.jmh.annotations.*;
+import sim.Strategies;
+import sim.Strategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * RoundEngineBenchmark
+ * =================================================
+ * 규칙 엔진으로 라운드 하나를 처음부터 정산까지 진행하는 비용 측정
+ * (배팅 -> 분배 -> 기본 전략으로 플레이어 턴 -> 딜러 턴 -> 정산)
+ *
+ * - 이벤트는 받지 않음 (RoundListener.NONE)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundEngineBenchmark {
+
+    private static final int BET = 10;
+
+    @Param({"2"})
+    public int seats;
+
+    private Player[] players;
+    private RoundEngine engine;
+    private final Strategy strategy = Strategies.BASIC;
+
+    @Setup
+    public void setup() {
+        players = new Player[seats];
+        for (int i = 0; i < seats; i++) players[i] = new Player("SEAT" + (i + 1), BET);
+        engine = new RoundEngine(new Shoe(6, 0.75, new SplittableRandom(42)), players, RoundListener.NONE);
+    }
+
+    @Benchmark
+    public int fullRound() {
+        engine.startRound();
+        for (int i = 0; i < seats; i++) {
+            players[i].setChips(BET);
+            engine.placeBet(i, BET);
+            engine.betDone(i);
+        }
+        engine.deal();
+
+        int up = engine.getDealerUpCard().getId();
+        while (engine.getPhase() == RoundEngine.Phase.PLAYER_TURN) {
+            int seat = engine.getTurn();
+            if (strategy.hit(players[seat].getHand(), up)) engine.hit(seat);
+            else engine.stand(seat);
+        }
+
+        engine.settle();
+        return engine.getDealerHand().getValue();
+    }
+}
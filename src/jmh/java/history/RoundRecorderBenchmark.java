@@ -0,0 +1,67 @@
+package history;
+
+import engine.RoundEngine;
+import model.Player;
+import model.Shoe;
+import org.openjdk.jmh.annotations.*;
+import sim.Strategies;
+import sim.Strategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * RoundRecorderBenchmark
+ * =================================================
+ * RoundRecorder를 붙인 채 라운드 하나를 진행하는 비용 측정
+ * RoundEngineBenchmark.fullRound와 비교하면 라운드당 기록 비용이 나옴
+ *
+ * - 파일에는 쓰지 않음 (RoundHistory.disabled()는 완성된 본문을 버림)
+ *   기록 스레드의 write 비용은 테이블 스레드 밖에서 발생하므로 제외
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundRecorderBenchmark {
+
+    private static final int BET = 10;
+    private static final int SEATS = 2;
+
+    private Player[] players;
+    private RoundEngine engine;
+    private final Strategy strategy = Strategies.BASIC;
+
+    @Setup
+    public void setup() {
+        players = new Player[SEATS];
+        for (int i = 0; i < SEATS; i++) players[i] = new Player("SEAT" + (i + 1), BET);
+
+        RoundRecorder recorder = new RoundRecorder("bench", RoundHistory.disabled());
+        engine = new RoundEngine(new Shoe(6, 0.75, new SplittableRandom(42)), players, recorder);
+        recorder.attach(engine);
+    }
+
+    @Benchmark
+    public int recordedRound() {
+        engine.startRound();
+        for (int i = 0; i < SEATS; i++) {
+            players[i].setChips(BET);
+            engine.placeBet(i, BET);
+            engine.betDone(i);
+        }
+        engine.deal();
+
+        int up = engine.getDealerUpCard().getId();
+        while (engine.getPhase() == RoundEngine.Phase.PLAYER_TURN) {
+            int seat = engine.getTurn();
+            if (strategy.hit(players[seat].getHand(), up)) engine.hit(seat);
+            else engine.stand(seat);
+        }
+
+        engine.settle();
+        return engine.getDealerHand().getValue();
+    }
+}
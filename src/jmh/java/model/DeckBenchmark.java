@@ -0,0 +1,51 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * DeckBenchmark
+ * =================================================
+ * Deck 생성 + 셔플, 카드 한 장 뽑기 비용 측정
+ *
+ * - draw()는 덱이 비면 다시 섞으므로 셔플 비용이 52장에 나누어 포함됨
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private SplittableRandom rng;
+    private Deck deck;
+
+    @Setup
+    public void setup() {
+        rng = new SplittableRandom(42);
+        deck = new Deck(rng);
+    }
+
+    //새 덱 생성 (생성자에서 셔플까지 수행)
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck(rng);
+    }
+
+    //기존 덱 다시 섞기
+    @Benchmark
+    public Deck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    //카드 한 장 뽑기
+    @Benchmark
+    public Card draw() {
+        if (deck.remaining() == 0) deck.shuffle();
+        return deck.draw();
+    }
+}
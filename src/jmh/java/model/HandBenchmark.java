@@ -0,0 +1,52 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * HandBenchmark
+ * =================================================
+ * 손패 점수 계산(getValue)과 손패 구성(addCard + clear) 비용 측정
+ *
+ * - cards: 손패의 카드 수 (처음 2장 ~ 여러 번 Hit한 손패)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    @Param({"2", "3", "5"})
+    public int cards;
+
+    private Hand hand;
+    private Card[] dealt;
+
+    @Setup
+    public void setup() {
+        Deck deck = new Deck(new SplittableRandom(42));
+        dealt = new Card[cards];
+        hand = new Hand();
+        for (int i = 0; i < cards; i++) {
+            dealt[i] = deck.draw();
+            hand.addCard(dealt[i]);
+        }
+    }
+
+    @Benchmark
+    public int getValue() {
+        return hand.getValue();
+    }
+
+    //손패를 비우고 같은 카드로 다시 채운 뒤 점수 계산 (라운드마다 반복되는 작업)
+    @Benchmark
+    public int rebuild() {
+        hand.clear();
+        for (Card c : dealt) hand.addCard(c);
+        return hand.getValue();
+    }
+}
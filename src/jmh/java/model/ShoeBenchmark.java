@@ -0,0 +1,43 @@
+package model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * ShoeBenchmark
+ * =================================================
+ * 서버 테이블이 실제로 사용하는 여러 덱 슈의 셔플과 뽑기 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShoeBenchmark {
+
+    @Param({"1", "6", "8"})
+    public int decks;
+
+    private Shoe shoe;
+
+    @Setup
+    public void setup() {
+        shoe = new Shoe(decks, 0.75, new SplittableRandom(42));
+    }
+
+    @Benchmark
+    public Shoe shuffle() {
+        shoe.shuffle();
+        return shoe;
+    }
+
+    //컷 카드에 도달하면 다시 섞으므로 셔플 비용이 나누어 포함됨
+    @Benchmark
+    public Card draw() {
+        if (shoe.needsShuffle()) shoe.shuffle();
+        return shoe.draw();
+    }
+}
@@ -0,0 +1,50 @@
+package server;
+
+import model.Card;
+import model.Hand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * FormatCardsBenchmark
+ * =================================================
+ * 손패를 "suit-rank,suit-rank" 문자열로 바꾸는 비용과
+ * 한 줄을 바이너리 프레임/전송용 바이트로 인코딩하는 비용 측정
+ *
+ * - Table이 패키지 전용이므로 같은 server 패키지에 둠
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatCardsBenchmark {
+
+    @Param({"2", "5"})
+    public int cards;
+
+    private Hand hand;
+    private String line;
+
+    @Setup
+    public void setup() {
+        hand = new Hand();
+        for (int i = 0; i < cards; i++) hand.addCard(Card.of(i * 7 % Card.COUNT));
+        line = "GAME:CARD:PLAYER1:" + Table.formatCards(hand);
+    }
+
+    @Benchmark
+    public String formatCards() {
+        return Table.formatCards(hand);
+    }
+
+    //브로드캐스트 한 번에 해당하는 인코딩 (텍스트 바이트 + 바이너리 프레임)
+    @Benchmark
+    public byte[] encodeMessage() {
+        OutboundMessage m = OutboundMessage.of(line);
+        m.bytes();
+        return m.frame();
+    }
+}
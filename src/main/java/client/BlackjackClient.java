@@ -1,43 +1,73 @@
 package client;
 
+import protocol.BinaryProtocol;
+import protocol.WireInput;
+
 import javax.swing.*;
 import java.io.*;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 
 public class BlackjackClient {
 
     //서버와의 네트워크 연결을 담당하는 소켓
     private Socket socket;
 
-    //서버로부터 문자열 메시지를 읽기 위한 입력 스트림
-    private BufferedReader in;
+    //서버로부터 메시지(텍스트 한 줄 / 바이너리 프레임)를 읽기 위한 입력
+    private WireInput in;
+
+    //서버로 메시지를 전송하기 위한 출력 스트림
+    private OutputStream out;
 
-    //서버로 문자열 메시지를 전송하기 위한 출력 스트림
-    private PrintWriter out;
+    //바이너리 프로토콜로 전송 중인지 여부
+    //-Dbj.protocol=text 로 실행하면 디버깅용 텍스트 프로토콜 사용
+    private boolean binaryOut = false;
 
     //게임 화면 GUI 객체
     private GameGUI gui;
 
+    //접속 정보 (재접속 시 다시 사용)
+    private final String host;
+    private final int port;
+
+    //착석 메시지 (재접속 세션이 없을 때 다시 보냄)
+    private String mode;
+
+    //서버가 발급한 세션 토큰 (SESSION:토큰, 받기 전에는 null)
+    private volatile String session;
+
+    //연결이 끊겼을 때 다시 접속을 시도하는 횟수와 간격(ms)
+    private static final int RECONNECT_ATTEMPTS = Integer.getInteger("bj.reconnectAttempts", 30);
+    private static final long RECONNECT_DELAY_MS = Long.getLong("bj.reconnectDelayMs", 1000);
+
     /*
      host : 서버 주소
      port : 서버 포트 번호
      role : PLAYER1 또는 PLAYER2*/
     public BlackjackClient(String host, int port, String role) {
-        try {
-            //서버와 TCP 소켓 연결
-            socket = new Socket(host, port);
+        this(host, port, role, "");
+    }
 
-            //수업 시간에 적용시켜봤던 한글 깨짐 방지 코드
-            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
-            out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), "UTF-8"), true);
+    /*
+     tableId : 착석할 테이블 ID (빈 문자열이면 서버 기본 테이블)*/
+    public BlackjackClient(String host, int port, String role, String tableId) {
+        this.host = host;
+        this.port = port;
+        try {
+            connect();
 
             //GameGUI 생성
             //GUI에서 발생한 이벤트는 Sender 인터페이스를 통해 서버로 전달됨
-            gui = new GameGUI(line -> out.println(line));
+            gui = new GameGUI(this::send);
             gui.setMyRole(role);
 
-            //서버에 자신의 역할 정보 전송
-            out.println("MODE:" + role);
+            //서버에 자신의 역할 정보 전송 (테이블 ID, 계정 이름 지정 시 함께 전송)
+            //계정 이름(-Dbj.player=이름)이 같으면 다른 자리에서도 칩 잔액을 이어서 사용
+            String account = System.getProperty("bj.player", "");
+            mode = "MODE:" + role;
+            if (!tableId.isEmpty() || !account.isEmpty()) mode += ":" + tableId;
+            if (!account.isEmpty()) mode += ":" + account;
+            send(mode);
 
             //서버 메시지를 계속 수신하는 스레드 시작
             new Thread(this::listen).start();
@@ -48,53 +78,104 @@ public class BlackjackClient {
         }
     }
 
+    /*
+     * connect()
+     * -------------------------------------------------
+     * 서버에 TCP 연결 후 프로토콜 협상 (처음 접속과 재접속에 공통)
+     * 송신 중인 스레드와 겹치지 않도록 send()와 같은 잠금 사용
+     */
+    private synchronized void connect() throws IOException {
+        //끊긴 이전 소켓 정리
+        if (socket != null) {
+            try { socket.close(); } catch (IOException ignored) {}
+        }
+
+        //서버와 TCP 소켓 연결
+        socket = new Socket(host, port);
+
+        //텍스트는 UTF-8로 직접 인코딩/디코딩 (한글 깨짐 방지)
+        in = new WireInput(new BufferedInputStream(socket.getInputStream(), 8192));
+        out = new BufferedOutputStream(socket.getOutputStream(), 1024);
+        binaryOut = false;
+
+        //바이너리 프로토콜 협상: 요청을 보낸 직후부터 바이너리로 전송
+        if (!"text".equalsIgnoreCase(System.getProperty("bj.protocol", "binary"))) {
+            send(BinaryProtocol.HANDSHAKE);
+            binaryOut = true;
+        }
+    }
+
+    //서버로 메시지 한 줄 전송 (바이너리 모드에서는 프레임으로 인코딩)
+    private synchronized void send(String line) {
+        try {
+            out.write(binaryOut
+                    ? BinaryProtocol.encode(line)
+                    : (line + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException ignored) {}
+    }
+
     //서버로부터 메시지를 지속적으로 수신
+    //해석과 화면 반영은 InboundPipeline이 담당 (화면 갱신은 EDT에서 묶어서 실행)
+    //연결이 끊기면 세션 토큰으로 다시 접속하여 같은 자리에서 이어서 수신
     private void listen() {
-        try {
-            String msg;
-            while ((msg = in.readLine()) != null) {
-                //채팅 메시지 수신
-                if (msg.startsWith("CHAT:")) {
-                    gui.appendMessage(msg.substring(5));
-                }
-                //게임 초기화(새 라운드 시작)
-                else if (msg.equals("GAME:RESET")) {
-                    gui.resetTable();
-                }
-                //카드 정보 수신
-                else if (msg.startsWith("GAME:CARD:")) {
-                    gui.applyCardMessage(msg);
-                }
-                //현재 턴 정보 수신
-                else if (msg.startsWith("GAME:TURN:")) {
-                    gui.setTurn(msg.substring(10));
-                }
-                //PLAYER1 칩 정보 갱신
-                else if (msg.startsWith("CHIPS:P1:")) {
-                    gui.updateChips("PLAYER1", Integer.parseInt(msg.substring(9)));
-                }
-                //PLAYER2 칩 정보 갱신
-                else if (msg.startsWith("CHIPS:P2:")) {
-                    gui.updateChips("PLAYER2", Integer.parseInt(msg.substring(9)));
-                }
-                //배팅 가능 상태 알림
-                else if (msg.equals("INFO:BETTING")) {
-                    gui.enableBetting();
-                }
-                //대기 상태 메시지
-                else if (msg.startsWith("WAITING:")) {
-                    gui.appendMessage(msg.substring(8));
-                }
-                //새 라운드 안내 메시지
-                else if (msg.startsWith("INFO:새 라운드")) {
-                    gui.appendMessage(msg.substring(5));
-                }
-                //그 외 메시지
-                else {
-                    gui.appendMessage(msg);
+        InboundPipeline pipeline = new InboundPipeline(gui);
+        do {
+            try {
+                String msg;
+                while ((msg = in.next()) != null) {
+                    //바이너리 협상 응답: 이후 수신 메시지는 바이너리 프레임
+                    if (msg.equals(BinaryProtocol.HANDSHAKE)) {
+                        in.switchToBinary();
+                    }
+                    //세션 토큰 발급 (재접속용으로 보관)
+                    else if (msg.startsWith("SESSION:")) {
+                        onSession(msg.substring(8));
+                    }
+                    else {
+                        pipeline.accept(msg);
+                    }
                 }
+            } catch (IOException ignored) {}
+        } while (reconnect(pipeline));
+
+        pipeline.accept("[SYSTEM] 서버와의 연결이 끊어졌습니다.");
+    }
+
+    //세션 토큰 수신 처리 (INVALID면 재접속 세션이 만료된 것이므로 새로 착석)
+    private void onSession(String token) {
+        if (token.equals("INVALID")) {
+            session = null;
+            send(mode);
+        } else {
+            session = token;
+        }
+    }
+
+    /*
+     * reconnect()
+     * -------------------------------------------------
+     * 세션 토큰이 있으면 일정 간격으로 다시 접속하여 RESUME:토큰 전송
+     * 서버는 현재 테이블 상태를 SNAPSHOT 한 줄로 보내므로 놓친 메시지를 다시 받을 필요 없음
+     * 접속에 성공하면 true, 세션이 없거나 모두 실패하면 false
+     */
+    private boolean reconnect(InboundPipeline pipeline) {
+        String token = session;
+        if (token == null) return false;
+
+        pipeline.accept("[SYSTEM] 서버와의 연결이 끊어졌습니다. 다시 연결하는 중...");
+        for (int i = 0; i < RECONNECT_ATTEMPTS; i++) {
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS);
+                connect();
+                send("RESUME:" + token);
+                return true;
+            } catch (IOException ignored) {
+            } catch (InterruptedException e) {
+                return false;
             }
-        } catch (IOException ignored) {}
+        }
+        return false;
     }
 
     //프로그램 시작 지점
@@ -0,0 +1,144 @@
+package client;
+
+import model.Card;
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * CardImages
+ * =================================================
+ * [역할]
+ * - 카드 앞면 52장과 뒷면 이미지를 한 번만 읽어 표시 크기로 줄여 둔 캐시
+ * - 이미지 리소스를 클래스패스에서 읽는 공용 도우미 (칩, 시작 화면 배경)
+ *
+ * [설계 의도]
+ * - 예전에는 카드를 그릴 때마다 PNG를 다시 읽고 getScaledInstance()로 줄였음
+ *   -> 이제 시작 시 백그라운드 스레드에서 전부 읽어 줄여 두고
+ *      카드를 그릴 때는 카드 번호로 배열에서 꺼내기만 함
+ * - EDT는 로딩을 기다리지 않음: 끝나기 전에는 빈 카드 이미지를 돌려주고
+ *   끝나면 whenLoaded()로 등록한 화면을 다시 그림
+ * - user.dir 기준 Windows 경로 대신 클래스패스("/club/A.png")에서 읽으므로
+ *   IDE, jar, 다른 OS 어디서 실행해도 같은 이미지를 찾음
+ * - 불러오지 못한 이미지는 카드 이름을 적은 임시 이미지로 대신 표시
+ */
+final class CardImages {
+
+    //카드 표시 크기
+    static final int WIDTH = 90;
+    static final int HEIGHT = 140;
+
+    //배열에서 뒷면 이미지 위치 (앞면은 카드 번호 0~51)
+    private static final int BACK = Card.COUNT;
+
+    //로딩이 끝나기 전에 대신 그리는 빈 카드
+    private static final ImageIcon PLACEHOLDER = new ImageIcon(placeholder(WIDTH, HEIGHT, ""));
+
+    //백그라운드에서 읽는 아이콘 배열 (preload() 전에는 null)
+    private static CompletableFuture<ImageIcon[]> icons;
+
+    private CardImages() {}
+
+    //미리 읽기 시작 (시작 화면에서 호출하여 게임 화면이 뜨기 전에 준비, 두 번째 호출부터는 무시)
+    static synchronized CompletableFuture<ImageIcon[]> preload() {
+        if (icons == null) {
+            icons = CompletableFuture.supplyAsync(
+                    CardImages::loadAll,
+                    r -> Thread.ofPlatform().name("card-images").daemon(true).start(r));
+        }
+        return icons;
+    }
+
+    //로딩이 끝나면 EDT에서 r 실행 (이미 끝났으면 바로 예약)
+    static void whenLoaded(Runnable r) {
+        preload().thenRun(() -> SwingUtilities.invokeLater(r));
+    }
+
+    //카드 앞면 (로딩이 끝나지 않았으면 빈 카드)
+    static ImageIcon face(Card c) {
+        ImageIcon[] a = preload().getNow(null);
+        return a == null ? PLACEHOLDER : a[c.getId()];
+    }
+
+    //카드 뒷면 (로딩이 끝나지 않았으면 빈 카드)
+    static ImageIcon back() {
+        ImageIcon[] a = preload().getNow(null);
+        return a == null ? PLACEHOLDER : a[BACK];
+    }
+
+    //52장 + 뒷면을 읽어 표시 크기로 줄임
+    private static ImageIcon[] loadAll() {
+        ImageIcon[] icons = new ImageIcon[Card.COUNT + 1];
+        for (int id = 0; id < Card.COUNT; id++) {
+            Card c = Card.of(id);
+            icons[id] = new ImageIcon(scaled("/" + c.getSuit() + "/" + c.getRank() + ".png",
+                    WIDTH, HEIGHT, c.getName()));
+        }
+        icons[BACK] = new ImageIcon(scaled("/back.png", WIDTH, HEIGHT, "BACK"));
+        return icons;
+    }
+
+    /*
+     * scaled()
+     * -------------------------------------------------
+     * 클래스패스 이미지를 w x h 크기로 줄인 이미지
+     * 읽지 못하면 label을 적은 임시 이미지
+     */
+    static BufferedImage scaled(String resource, int w, int h, String label) {
+        BufferedImage src = read(resource);
+        if (src == null) return placeholder(w, h, label);
+
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.drawImage(halveDown(src, w, h), 0, 0, w, h, null);
+        g.dispose();
+        return out;
+    }
+
+    //label을 적은 w x h 흰 카드 (이미지가 없거나 아직 읽지 못했을 때)
+    private static BufferedImage placeholder(int w, int h, String label) {
+        BufferedImage out = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = out.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(Color.WHITE);
+        g.fillRoundRect(0, 0, w - 1, h - 1, 10, 10);
+        g.setColor(Color.DARK_GRAY);
+        g.drawRoundRect(0, 0, w - 1, h - 1, 10, 10);
+        g.drawString(label, 6, h / 2);
+        g.dispose();
+        return out;
+    }
+
+    //목표 크기의 2배 이하가 될 때까지 절반씩 줄임
+    //(한 번에 크게 줄이면 보간이 픽셀을 건너뛰어 계단 현상이 생김)
+    private static BufferedImage halveDown(BufferedImage img, int w, int h) {
+        while (img.getWidth() / 2 >= w && img.getHeight() / 2 >= h) {
+            int hw = img.getWidth() / 2;
+            int hh = img.getHeight() / 2;
+            BufferedImage half = new BufferedImage(hw, hh, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = half.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(img, 0, 0, hw, hh, null);
+            g.dispose();
+            img = half;
+        }
+        return img;
+    }
+
+    //클래스패스 이미지 읽기 (없거나 읽지 못하면 null)
+    static BufferedImage read(String resource) {
+        try (InputStream in = CardImages.class.getResourceAsStream(resource)) {
+            return in == null ? null : ImageIO.read(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package client;
+
+import model.Card;
+
+/*
+ * CardMessage
+ * =================================================
+ * [역할]
+ * - 서버의 카드 메시지를 화면과 무관하게 해석한 결과
+ *   GAME:CARD:역할:카드,카드,...   (손패 전체)
+ *   GAME:CARD_ADD:역할:카드        (카드 한 장 추가)
+ *
+ * [설계 의도]
+ * - Swing 없이 해석만 따로 떼어 두어 GUI 없이도 측정/재사용 가능
+ *   (GameGUI는 해석 결과로 카드 라벨만 만듦)
+ * - split()의 정규식과 중간 배열 대신 indexOf로 잘라 카드 번호로 바로 변환
+ */
+public final class CardMessage {
+
+    private static final String CARD_PREFIX = "GAME:CARD:";
+    private static final String CARD_ADD_PREFIX = "GAME:CARD_ADD:";
+
+    //카드를 받는 역할 (DEALER / PLAYER1 / PLAYER2)
+    private final String role;
+
+    //카드 목록 (공유 Card 객체)
+    private final Card[] cards;
+
+    private CardMessage(String role, Card[] cards) {
+        this.role = role;
+        this.cards = cards;
+    }
+
+    public String getRole() { return role; }
+
+    public Card[] getCards() { return cards; }
+
+    /*
+     * parseCards()
+     * -------------------------------------------------
+     * "GAME:CARD:역할:카드,카드" 해석
+     * 형식이 맞지 않거나 알 수 없는 카드가 있으면 IllegalArgumentException
+     */
+    public static CardMessage parseCards(String line) {
+        int colon = roleEnd(line, CARD_PREFIX);
+        String role = line.substring(CARD_PREFIX.length(), colon);
+
+        //카드 개수 = 쉼표 개수 + 1
+        int start = colon + 1;
+        int count = 1;
+        for (int i = start; i < line.length(); i++) if (line.charAt(i) == ',') count++;
+
+        Card[] cards = new Card[count];
+        for (int i = 0; i < count; i++) {
+            int end = line.indexOf(',', start);
+            if (end < 0) end = line.length();
+            cards[i] = card(line.substring(start, end));
+            start = end + 1;
+        }
+        return new CardMessage(role, cards);
+    }
+
+    /*
+     * parseCardAdd()
+     * -------------------------------------------------
+     * "GAME:CARD_ADD:역할:카드" 해석
+     */
+    public static CardMessage parseCardAdd(String line) {
+        int colon = roleEnd(line, CARD_ADD_PREFIX);
+        String role = line.substring(CARD_ADD_PREFIX.length(), colon);
+        return new CardMessage(role, new Card[]{card(line.substring(colon + 1))});
+    }
+
+    //접두어 뒤 역할 이름이 끝나는 ':' 위치
+    private static int roleEnd(String line, String prefix) {
+        if (!line.startsWith(prefix)) throw new IllegalArgumentException("카드 메시지가 아님: " + line);
+
+        int colon = line.indexOf(':', prefix.length());
+        if (colon < 0) throw new IllegalArgumentException("카드 정보 없음: " + line);
+        return colon;
+    }
+
+    //"suit-rank" -> Card
+    private static Card card(String name) {
+        int id = Card.idOf(name);
+        if (id < 0) throw new IllegalArgumentException("알 수 없는 카드: " + name);
+        return Card.of(id);
+    }
+}
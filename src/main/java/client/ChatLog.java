@@ -0,0 +1,70 @@
+package client;
+
+import javax.swing.*;
+import java.util.List;
+
+/*
+ * ChatLog
+ * =================================================
+ * [역할]
+ * - 채팅/시스템 메시지를 최근 LIMIT줄까지만 보관하는 원형 버퍼
+ * - 채팅창(JList)의 목록 모델
+ *
+ * [설계 의도]
+ * - 예전 JTextArea는 줄이 끝없이 쌓이고, 줄마다 문서 전체를 문자열로 복사해 스크롤했음
+ * - 고정 크기 배열에 순환하며 기록하므로 한 줄 추가와 가장 오래된 줄 삭제가 모두 O(1)
+ *   (배열 앞부분을 당기거나 문서를 다시 만들지 않음)
+ * - JList는 보이는 줄만 그리므로 보관 줄 수와 무관하게 그리기 비용이 일정
+ * - EDT에서만 사용
+ */
+final class ChatLog extends AbstractListModel<String> {
+
+    //보관하는 최대 줄 수 (-Dbj.chatLines=N, 기본 500)
+    static final int LIMIT = Math.max(1, Integer.getInteger("bj.chatLines", 500));
+
+    private final String[] lines = new String[LIMIT];
+
+    //가장 오래된 줄의 위치와 보관 중인 줄 수
+    private int head = 0;
+    private int size = 0;
+
+    /*
+     * append()
+     * -------------------------------------------------
+     * 여러 줄을 끝에 추가, 넘치는 만큼 가장 오래된 줄을 버림
+     * 목록 변경 알림은 삭제/추가 한 번씩만 보냄
+     */
+    void append(List<String> added) {
+        int n = added.size();
+        if (n == 0) return;
+
+        //한 번에 LIMIT줄보다 많이 오면 마지막 LIMIT줄만 의미가 있음
+        int from = Math.max(0, n - LIMIT);
+        int count = n - from;
+
+        int removed = Math.max(0, size + count - LIMIT);
+        if (removed > 0) {
+            //버리는 줄의 참조도 지움
+            for (int i = 0; i < removed; i++) lines[(head + i) % LIMIT] = null;
+            head = (head + removed) % LIMIT;
+            size -= removed;
+            fireIntervalRemoved(this, 0, removed - 1);
+        }
+
+        for (int i = from; i < n; i++) {
+            lines[(head + size) % LIMIT] = added.get(i);
+            size++;
+        }
+        fireIntervalAdded(this, size - count, size - 1);
+    }
+
+    @Override
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String getElementAt(int index) {
+        return lines[(head + index) % LIMIT];
+    }
+}
@@ -1,11 +1,12 @@
 package client;
 
 import javax.swing.*;
-import javax.swing.border.TitledBorder;
 import java.awt.*;
 import java.awt.event.*;
 import java.awt.image.BufferedImage;
+import java.util.List;
 
+//화면 갱신 메서드는 모두 EDT에서 호출 (서버 메시지는 InboundPipeline이 묶어서 EDT로 넘김)
 public class GameGUI extends JFrame {
 
     public interface Sender { void send(String line); }//서버로 메시지를 보내기 위한 인터페이스
@@ -22,28 +23,26 @@ public class GameGUI extends JFrame {
     //게임 상태 표시 라벨들
     private JLabel statusLabel, turnLabel, roleLabel, chipLabel;
 
-    //카드가 표시되는 영역 패널
-    private JPanel dealerPanel, p1Panel, p2Panel;
+    //카드가 표시되는 테이블 (딜러 / PLAYER1 / PLAYER2 자리를 직접 그림)
+    private final TablePanel table = new TablePanel("DEALER", "PLAYER1", "PLAYER2");
 
     //배팅 버튼 영역 패널
     private JPanel betPanel;
 
-    //채팅 출력 영역과 입력 필드
-    private JTextArea chatArea;
+    //채팅 출력 영역(최근 ChatLog.LIMIT줄만 보관)과 입력 필드
+    private final ChatLog chatLog = new ChatLog();
+    private JList<String> chatList;
     private JTextField chatInput;
 
+    //지금까지 받은 가장 긴 채팅 줄의 폭 (채팅 목록의 폭, 줄어들지 않음)
+    private int chatWidth = 0;
+
     //자신의 역할(PLAYER1 / PLAYER2)
     private String myRole = "UNKNOWN";
 
     //현재 턴이 누구인지
     private String turnRole = "UNKNOWN";
 
-    //카드 뒷면 이미지 아이콘
-    private ImageIcon backIcon;
-
-    //딜러의 숨겨진 카드 표현용 라벨
-    private JLabel dealerHiddenCardLabel = null;
-
     //화면 중앙에 결과를 크게 표시하기 위한 메시지 라벨
     private JLabel centerMessage;
 
@@ -75,11 +74,8 @@ public class GameGUI extends JFrame {
             }
         });
 
-        //카드 뒷면 이미지 로드
-        String backPath = System.getProperty("user.dir") + "\\src\\main\\resources\\back.png";
-        backIcon = new ImageIcon(
-                new ImageIcon(backPath).getImage().getScaledInstance(90, 140, Image.SCALE_SMOOTH)
-        );
+        //카드 이미지 미리 읽기 (시작 화면에서 이미 시작했으면 그대로 이어짐)
+        CardImages.preload();
 
         // 상단 컨트롤바
         JPanel control = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 8));
@@ -109,16 +105,6 @@ public class GameGUI extends JFrame {
         add(control, BorderLayout.NORTH);
 
         //카드 테이블 공간
-        //딜러 / PLAYER1 / PLAYER2 카드 영역
-        JPanel table = new JPanel(new GridLayout(3, 1, 8, 8));
-        dealerPanel = titledPanel("DEALER");
-        p1Panel = titledPanel("PLAYER1");
-        p2Panel = titledPanel("PLAYER2");
-
-        table.add(dealerPanel);
-        table.add(p1Panel);
-        table.add(p2Panel);
-
         add(table, BorderLayout.CENTER);
 
         //하단 배팅 + 채팅
@@ -151,8 +137,14 @@ public class GameGUI extends JFrame {
         bottomPanel.add(betPanel, BorderLayout.NORTH);
 
         // 채팅 UI
-        chatArea = new JTextArea(8, 60);
-        chatArea.setEditable(false);
+        //줄 높이와 폭을 고정하여 줄이 추가될 때 전체 줄을 다시 재지 않음
+        //폭은 새로 들어온 줄만 재서 가장 긴 줄에 맞추고, 창보다 넓으면 가로 스크롤
+        chatList = new JList<>(chatLog);
+        chatList.setFixedCellHeight(chatCellSize("가").height);
+        //고정 폭이 없으면(-1) 목록이 바뀔 때마다 모든 줄을 다시 재므로 최소값으로 시작
+        //(창보다 좁은 동안은 목록이 창 폭에 맞춰 늘어남)
+        chatList.setFixedCellWidth(1);
+        chatList.setVisibleRowCount(8);
         chatInput = new JTextField();
 
         //Enter 입력 시 채팅 메시지 서버 전송
@@ -166,7 +158,7 @@ public class GameGUI extends JFrame {
 
         JPanel chatBox = new JPanel(new BorderLayout());
         chatBox.setBorder(BorderFactory.createTitledBorder("채팅"));
-        chatBox.add(new JScrollPane(chatArea), BorderLayout.CENTER);
+        chatBox.add(new JScrollPane(chatList), BorderLayout.CENTER);
         chatBox.add(chatInput, BorderLayout.SOUTH);
 
         bottomPanel.add(chatBox, BorderLayout.CENTER);
@@ -203,12 +195,7 @@ public class GameGUI extends JFrame {
 
     // 칩 버튼 생성 + 눌림 효과
     private JButton createChipButton(String fileName, String value) {
-        String path = System.getProperty("user.dir") +
-                "\\src\\main\\resources\\chips\\" + fileName;
-
-        ImageIcon icon = new ImageIcon(
-                new ImageIcon(path).getImage().getScaledInstance(60, 60, Image.SCALE_SMOOTH)
-        );
+        ImageIcon icon = new ImageIcon(CardImages.scaled("/chips/" + fileName, 60, 60, value));
 
         JButton btn = new JButton(icon);
         btn.setPreferredSize(new Dimension(70, 70));
@@ -252,17 +239,6 @@ public class GameGUI extends JFrame {
         return new ImageIcon(darker);
     }
 
-    // 기본 UI 구성용 패널 생성
-    private JPanel titledPanel(String title) {
-        JPanel p = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 6));
-        p.setBackground(new Color(0, 80, 0));
-        TitledBorder tb = BorderFactory.createTitledBorder(
-                BorderFactory.createLineBorder(Color.LIGHT_GRAY), title);
-        tb.setTitleColor(Color.WHITE);
-        p.setBorder(tb);
-        return p;
-    }
-
     //현재 턴이 나인지 확인
     private boolean isMyTurn() {
         return myRole.equalsIgnoreCase(turnRole);
@@ -285,37 +261,39 @@ public class GameGUI extends JFrame {
 
     //채팅 및 시스템 메시지 출력
     public void appendMessage(String msg) {
-        chatArea.append(msg + "\n");
-        chatArea.setCaretPosition(chatArea.getText().length());
+        appendMessages(List.of(msg));
+    }
+
+    //여러 줄을 채팅창에 한 번에 추가 (목록 변경 알림과 스크롤은 한 번만)
+    public void appendMessages(List<String> lines) {
+        int width = chatWidth;
+        for (String msg : lines) {
+            //결과 메시지는 중앙에도 출력
+            if (msg.startsWith("[RESULT]")) {
+                showCenterMessage(msg.replace("[RESULT]", "").trim());
+            }
+            width = Math.max(width, chatCellSize(msg).width);
+        }
 
-        //메시지는 중앙에도 출력
-        if (msg.startsWith("[RESULT]")) {
-            showCenterMessage(msg.replace("[RESULT]", "").trim());
+        //더 긴 줄이 들어왔을 때만 목록 폭을 넓힘 (가로 스크롤로 줄 전체를 볼 수 있음)
+        if (width > chatWidth) {
+            chatWidth = width;
+            chatList.setFixedCellWidth(width);
         }
+        chatLog.append(lines);
+        chatList.ensureIndexIsVisible(chatLog.getSize() - 1);
     }
 
-    //카드 이미지 로드
-    private ImageIcon loadCardIcon(String suit, String rank) {
-        String path = System.getProperty("user.dir") +
-                "\\src\\main\\resources\\" + suit + "\\" + rank + ".png";
-        Image img = new ImageIcon(path).getImage().getScaledInstance(90, 140, Image.SCALE_SMOOTH);
-        return new ImageIcon(img);
+    //채팅 목록에서 한 줄이 차지하는 크기 (목록의 렌더러로 측정)
+    private Dimension chatCellSize(String line) {
+        return chatList.getCellRenderer()
+                .getListCellRendererComponent(chatList, line, 0, false, false)
+                .getPreferredSize();
     }
 
     //테이블 초기화 (새 라운드 시작 시)
     public void resetTable() {
-        dealerPanel.removeAll();
-        p1Panel.removeAll();
-        p2Panel.removeAll();
-
-        dealerPanel.revalidate();
-        p1Panel.revalidate();
-        p2Panel.revalidate();
-        dealerPanel.repaint();
-        p1Panel.repaint();
-        p2Panel.repaint();
-
-        dealerHiddenCardLabel = null;
+        table.clear();
 
         statusLabel.setText("배팅 대기중");
         turnLabel.setText("턴: -");
@@ -324,34 +302,40 @@ public class GameGUI extends JFrame {
         appendMessage("============== [새 라운드] ==============");
     }
 
-    //서버로부터 받은 카드 정보를 화면에 표시
-    public void applyCardMessage(String line) {
-        try {
-            String[] a = line.split(":");
-            if (a.length < 4) return;
-
-            String role = a[2];
-            String[] cards = a[3].split(",");
-
-            JPanel target = switch (role) {
-                case "DEALER" -> dealerPanel;
-                case "PLAYER1" -> p1Panel;
-                default -> p2Panel;
-            };
-
-            target.removeAll();
+    //서버로부터 받은 손패 전체를 화면에 표시
+    //(메시지 해석은 수신 스레드에서 CardMessage가 끝냄)
+    public void showCards(CardMessage m) {
+        table.setCards(m.getRole(), m.getCards());
+    }
 
-            for (String c : cards) {
-                String[] sr = c.split("-");
-                target.add(new JLabel(loadCardIcon(sr[0], sr[1])));
-            }
+    //서버로부터 받은 카드 한 장을 해당 자리 끝에 추가
+    //(기존 카드는 그대로 두고 새 카드만 날아와 놓임)
+    public void addCard(CardMessage m) {
+        table.addCard(m.getRole(), m.getCards()[0]);
+    }
 
-            target.revalidate();
-            target.repaint();
+    //재접속 시 서버가 보낸 테이블 상태로 화면 전체를 맞춤
+    //(이미 그려진 카드는 그대로 두고 달라진 카드만 다시 놓음)
+    public void applySnapshot(SnapshotMessage s) {
+        table.setCards("DEALER", s.getDealerCards());
+        for (int seat = 0; seat < s.getSeatCount(); seat++) {
+            String role = SnapshotMessage.roleOf(seat);
+            table.setCards(role, s.getCards(seat));
+            updateChips(role, s.getChips(seat));
+
+            //배팅 중인데 아직 배팅 완료를 누르지 않았으면 배팅 버튼 다시 활성화
+            if (role.equals(myRole) && s.getPhase().equals("BETTING") && !s.isBetDone(seat)) enableBetting();
+        }
 
-        } catch (Exception e) {
-            appendMessage("[오류] 카드 표시 실패: " + e.getMessage());
+        if (s.getTurn().isEmpty()) {
+            turnRole = "";
+            turnLabel.setText("턴: -");
+            disableButtons();
+        } else {
+            setTurn(s.getTurn());
         }
+
+        appendMessage("[SYSTEM] 서버에 다시 연결되었습니다.");
     }
 
     //칩 정보 갱신 (내 칩만 표시)
@@ -0,0 +1,203 @@
+package client;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/*
+ * InboundPipeline
+ * =================================================
+ * [역할]
+ * - 서버 메시지를 수신 스레드에서 해석하여 화면 갱신 작업으로 만들고
+ *   쌓인 작업을 EDT에서 한 번에 반영
+ *
+ * [설계 의도]
+ * - Swing 컴포넌트는 EDT에서만 다뤄야 하므로 수신 스레드는 화면을 직접 건드리지 않음
+ * - 메시지마다 invokeLater를 부르지 않고, 예약이 없을 때만 한 번 예약 (scheduled 플래그)
+ *   EDT는 그 사이 쌓인 작업을 모두 꺼내 한 묶음으로 반영
+ *   -> 서버가 메시지를 몰아 보내도 EDT 이벤트 큐에는 묶음 하나만 쌓임
+ * - 같은 묶음 안에서 뒤의 갱신이 앞의 갱신을 덮는 경우 앞의 것은 건너뜀
+ *   칩(CHIPS, 자리별), 턴(TURN): 마지막 값만 반영
+ *   카드: 뒤에 새 라운드(RESET)가 있으면 어차피 지워지므로 건너뜀
+ *   재접속 스냅샷(SNAPSHOT): 카드, 턴, 칩을 모두 다시 맞추므로 앞의 해당 작업은 건너뜀
+ * - 연달아 온 채팅 줄은 채팅창에 한 번에 붙임
+ */
+final class InboundPipeline {
+
+    //한 묶음에서 반영하는 최대 작업 수 (넘으면 나머지는 다음 묶음으로 넘겨 EDT를 오래 잡지 않음)
+    private static final int MAX_BATCH = 512;
+
+    //작업 종류 (덮어쓰기 판단용)
+    private enum Kind { CHAT, CARDS, RESET, SNAPSHOT, TURN, CHIPS_P1, CHIPS_P2, OTHER }
+
+    //화면 갱신 작업 하나
+    private record Update(Kind kind, String text, Consumer<GameGUI> action) {}
+
+    private final GameGUI gui;
+
+    //수신 스레드 -> EDT
+    private final Queue<Update> pending = new ConcurrentLinkedQueue<>();
+
+    //EDT에 반영 작업이 예약되어 있는지
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    //EDT 전용: 꺼낸 작업 묶음과 연달아 온 채팅 줄 (재사용)
+    private final List<Update> batch = new ArrayList<>(MAX_BATCH);
+    private final List<String> chat = new ArrayList<>();
+
+    InboundPipeline(GameGUI gui) {
+        this.gui = gui;
+    }
+
+    /*
+     * accept()
+     * -------------------------------------------------
+     * 서버 메시지 한 줄을 해석하여 화면 갱신 작업으로 추가 (수신 스레드에서 호출)
+     */
+    void accept(String msg) {
+        //채팅 메시지 수신
+        if (msg.startsWith("CHAT:")) {
+            chat(msg.substring(5));
+        }
+        //게임 초기화(새 라운드 시작)
+        else if (msg.equals("GAME:RESET")) {
+            post(Kind.RESET, GameGUI::resetTable);
+        }
+        //재접속 후 테이블 상태 전체
+        else if (msg.startsWith("SNAPSHOT:")) {
+            try {
+                SnapshotMessage m = SnapshotMessage.parse(msg);
+                post(Kind.SNAPSHOT, g -> g.applySnapshot(m));
+            } catch (IllegalArgumentException e) {
+                chat("[오류] 테이블 복구 실패: " + e.getMessage());
+            }
+        }
+        //카드 정보 수신 (손패 전체)
+        else if (msg.startsWith("GAME:CARD:")) {
+            try {
+                CardMessage m = CardMessage.parseCards(msg);
+                post(Kind.CARDS, g -> g.showCards(m));
+            } catch (IllegalArgumentException e) {
+                chat("[오류] 카드 표시 실패: " + e.getMessage());
+            }
+        }
+        //카드 한 장 추가 수신
+        else if (msg.startsWith("GAME:CARD_ADD:")) {
+            try {
+                CardMessage m = CardMessage.parseCardAdd(msg);
+                post(Kind.CARDS, g -> g.addCard(m));
+            } catch (IllegalArgumentException e) {
+                chat("[오류] 카드 표시 실패: " + e.getMessage());
+            }
+        }
+        //현재 턴 정보 수신
+        else if (msg.startsWith("GAME:TURN:")) {
+            String role = msg.substring(10);
+            post(Kind.TURN, g -> g.setTurn(role));
+        }
+        //PLAYER1 / PLAYER2 칩 정보 갱신
+        else if (msg.startsWith("CHIPS:P1:") || msg.startsWith("CHIPS:P2:")) {
+            try {
+                int chips = Integer.parseInt(msg.substring(9));
+                boolean p1 = msg.charAt(7) == '1';
+                String role = p1 ? "PLAYER1" : "PLAYER2";
+                post(p1 ? Kind.CHIPS_P1 : Kind.CHIPS_P2, g -> g.updateChips(role, chips));
+            } catch (NumberFormatException e) {
+                chat(msg);
+            }
+        }
+        //배팅 가능 상태 알림
+        else if (msg.equals("INFO:BETTING")) {
+            post(Kind.OTHER, GameGUI::enableBetting);
+        }
+        //대기 상태 메시지
+        else if (msg.startsWith("WAITING:")) {
+            chat(msg.substring(8));
+        }
+        //새 라운드 안내 메시지
+        else if (msg.startsWith("INFO:새 라운드")) {
+            chat(msg.substring(5));
+        }
+        //그 외 메시지
+        else {
+            chat(msg);
+        }
+    }
+
+    //채팅창에 한 줄 추가
+    private void chat(String text) {
+        enqueue(new Update(Kind.CHAT, text, null));
+    }
+
+    private void post(Kind kind, Consumer<GameGUI> action) {
+        enqueue(new Update(kind, null, action));
+    }
+
+    //작업 추가 후 예약이 없으면 EDT에 반영 작업 예약
+    private void enqueue(Update u) {
+        pending.add(u);
+        if (scheduled.compareAndSet(false, true)) SwingUtilities.invokeLater(this::drain);
+    }
+
+    /*
+     * drain()
+     * -------------------------------------------------
+     * 쌓인 작업을 꺼내 덮어쓰인 작업은 건너뛰고 순서대로 반영 (EDT)
+     */
+    private void drain() {
+        Update u;
+        while (batch.size() < MAX_BATCH && (u = pending.poll()) != null) batch.add(u);
+
+        //뒤에서부터 보며 이미 뒤에 같은 종류가 있는 작업 표시
+        boolean[] skip = new boolean[batch.size()];
+        boolean turn = false, chipsP1 = false, chipsP2 = false, reset = false;
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            switch (batch.get(i).kind) {
+                case TURN -> { skip[i] = turn; turn = true; }
+                case CHIPS_P1 -> { skip[i] = chipsP1; chipsP1 = true; }
+                case CHIPS_P2 -> { skip[i] = chipsP2; chipsP2 = true; }
+                case CARDS -> skip[i] = reset;
+                case RESET -> reset = true;
+                case SNAPSHOT -> reset = turn = chipsP1 = chipsP2 = true;
+                default -> {}
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            Update b = batch.get(i);
+            if (b.kind == Kind.CHAT) {
+                chat.add(b.text);
+                continue;
+            }
+            flushChat();
+            if (skip[i]) continue;
+
+            //작업 하나가 실패해도 나머지 작업과 이후 묶음은 계속 반영
+            try {
+                b.action.accept(gui);
+            } catch (RuntimeException e) {
+                chat.add("[오류] 화면 갱신 실패: " + e);
+            }
+        }
+        flushChat();
+        batch.clear();
+
+        //다 꺼냈으면 예약 해제, 그 사이 들어온 작업이 있으면 다시 예약
+        if (pending.isEmpty()) {
+            scheduled.set(false);
+            if (pending.isEmpty() || !scheduled.compareAndSet(false, true)) return;
+        }
+        SwingUtilities.invokeLater(this::drain);
+    }
+
+    //모아 둔 채팅 줄을 한 번에 추가
+    private void flushChat() {
+        if (chat.isEmpty()) return;
+        gui.appendMessages(chat);
+        chat.clear();
+    }
+}
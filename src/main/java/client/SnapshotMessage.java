@@ -0,0 +1,116 @@
+package client;
+
+import model.Card;
+
+/*
+ * SnapshotMessage
+ * =================================================
+ * [역할]
+ * - 재접속 시 서버가 보내는 테이블 상태 메시지를 화면과 무관하게 해석한 결과
+ *   SNAPSHOT:단계:턴:딜러카드:자리1:자리2
+ *   자리 = 칩/배팅/배팅완료(0,1)/카드,카드,...   (PLAYER1, PLAYER2 순서)
+ *
+ * [설계 의도]
+ * - 끊긴 동안 놓친 메시지를 다시 받지 않고 이 메시지 하나로 화면 전체를 맞춤
+ * - 카드 목록 해석은 CardMessage와 같은 "suit-rank" 규칙 사용
+ */
+public final class SnapshotMessage {
+
+    private static final String PREFIX = "SNAPSHOT:";
+
+    //라운드 진행 단계 이름 (BETTING, PLAYER_TURN, ...)
+    private final String phase;
+
+    //현재 턴인 역할 (턴이 없으면 빈 문자열)
+    private final String turn;
+
+    //딜러의 공개된 카드
+    private final Card[] dealer;
+
+    //자리별 칩, 배팅, 배팅 완료 여부, 카드 (PLAYER1부터)
+    private final int[] chips;
+    private final int[] bets;
+    private final boolean[] betDone;
+    private final Card[][] hands;
+
+    private SnapshotMessage(String phase, String turn, Card[] dealer,
+                            int[] chips, int[] bets, boolean[] betDone, Card[][] hands) {
+        this.phase = phase;
+        this.turn = turn;
+        this.dealer = dealer;
+        this.chips = chips;
+        this.bets = bets;
+        this.betDone = betDone;
+        this.hands = hands;
+    }
+
+    public String getPhase() { return phase; }
+
+    public String getTurn() { return turn; }
+
+    public Card[] getDealerCards() { return dealer; }
+
+    //자리 수
+    public int getSeatCount() { return hands.length; }
+
+    //자리 번호(0부터)의 역할 이름
+    public static String roleOf(int seat) { return "PLAYER" + (seat + 1); }
+
+    public int getChips(int seat) { return chips[seat]; }
+
+    public int getBet(int seat) { return bets[seat]; }
+
+    public boolean isBetDone(int seat) { return betDone[seat]; }
+
+    public Card[] getCards(int seat) { return hands[seat]; }
+
+    /*
+     * parse()
+     * -------------------------------------------------
+     * "SNAPSHOT:..." 해석
+     * 형식이 맞지 않거나 알 수 없는 카드가 있으면 IllegalArgumentException
+     */
+    public static SnapshotMessage parse(String line) {
+        if (!line.startsWith(PREFIX)) throw new IllegalArgumentException("스냅샷 메시지가 아님: " + line);
+
+        String[] f = line.substring(PREFIX.length()).split(":", -1);
+        if (f.length < 3) throw new IllegalArgumentException("스냅샷 형식 오류: " + line);
+
+        int seats = f.length - 3;
+        int[] chips = new int[seats];
+        int[] bets = new int[seats];
+        boolean[] done = new boolean[seats];
+        Card[][] hands = new Card[seats][];
+
+        try {
+            for (int i = 0; i < seats; i++) {
+                String[] s = f[3 + i].split("/", -1);
+                if (s.length != 4) throw new IllegalArgumentException("자리 형식 오류: " + f[3 + i]);
+
+                chips[i] = Integer.parseInt(s[0]);
+                bets[i] = Integer.parseInt(s[1]);
+                done[i] = s[2].equals("1");
+                hands[i] = cards(s[3]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("스냅샷 숫자 오류: " + line);
+        }
+
+        String turn = f[1].equals("-") ? "" : f[1];
+        return new SnapshotMessage(f[0], turn, cards(f[2]), chips, bets, done, hands);
+    }
+
+    //"suit-rank,suit-rank" -> Card[] (빈 문자열이면 빈 배열)
+    private static Card[] cards(String list) {
+        if (list.isEmpty()) return new Card[0];
+
+        String[] names = list.split(",");
+        Card[] cards = new Card[names.length];
+        for (int i = 0; i < names.length; i++) {
+            int id = Card.idOf(names[i]);
+            if (id < 0) throw new IllegalArgumentException("알 수 없는 카드: " + names[i]);
+            cards[i] = Card.of(id);
+        }
+        return cards;
+    }
+}
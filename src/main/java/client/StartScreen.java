@@ -13,12 +13,13 @@ public class StartScreen extends JFrame {
         //절대 좌표 기반 배치를 사용하기 위해 LayoutManager 제거
         setLayout(null);
 
-        //절대 경로로 배경 이미지 로드
+        //역할을 고르는 동안 카드 이미지를 백그라운드에서 미리 읽어 둠
+        CardImages.preload();
+
+        //클래스패스에서 배경 이미지 로드
         //게임 시작 화면의 분위기를 연출하기 위한 UI 요소
-        String bgPath = System.getProperty("user.dir") + "\\src\\main\\resources\\start.png";
         JLabel bgLabel = new JLabel();
-        Image bg = new ImageIcon(bgPath).getImage().getScaledInstance(1100, 750, Image.SCALE_SMOOTH);
-        bgLabel.setIcon(new ImageIcon(bg));
+        bgLabel.setIcon(new ImageIcon(CardImages.scaled("/start.png", 1100, 750, "")));
         bgLabel.setBounds(0, 0, 1100, 750);
         add(bgLabel);
 
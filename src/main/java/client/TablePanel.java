@@ -0,0 +1,297 @@
+package client;
+
+import model.Card;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * TablePanel
+ * =================================================
+ * [역할]
+ * - 딜러와 플레이어 자리별 카드를 직접 그리는 테이블 화면 컴포넌트
+ * - 새로 받은 카드는 슈 위치(오른쪽 위)에서 자기 자리로 날아가는 애니메이션으로 표시
+ *
+ * [설계 의도]
+ * - 예전에는 자리마다 JPanel에 카드 한 장당 JLabel을 붙이고
+ *   카드 메시지마다 removeAll()/revalidate()/repaint()로 창 전체 레이아웃을 다시 계산했음
+ *   -> 이제 컴포넌트 하나가 자리별 카드 번호만 들고 미리 줄여 둔 이미지(CardImages)를 바로 그림
+ *      (레이아웃 계산 없음, 카드가 바뀐 영역만 repaint)
+ * - 초록 테이블 배경과 자리 제목은 크기가 바뀔 때만 이미지로 한 번 그려 두고 매 프레임 복사만 함
+ * - 애니메이션 타이머는 움직이는 카드가 있을 때만 동작 (약 60fps)
+ *   프레임마다 움직이는 카드의 이전 위치와 새 위치만 다시 그림
+ * - 자리 수는 생성 시 받은 역할 목록으로 정해지므로 자리가 늘어도 같은 방식으로 그림
+ * - 모든 메서드는 EDT에서 호출해야 함
+ */
+final class TablePanel extends JComponent {
+
+    //자리 사이 간격, 카드 사이 간격, 자리 안쪽 여백
+    private static final int ROW_GAP = 8;
+    private static final int CARD_GAP = 6;
+    private static final int PAD = 6;
+
+    //자리 제목 높이
+    private static final int TITLE_HEIGHT = 18;
+
+    //카드 한 장이 날아가는 시간(ms), 연달아 받은 카드의 출발 간격(ms), 프레임 간격(ms)
+    private static final int DEAL_MS = 250;
+    private static final int DEAL_STAGGER_MS = 90;
+    private static final int FRAME_MS = 16;
+
+    private static final Color FELT = new Color(0, 80, 0);
+
+    //자리(역할) 이름과 자리별 카드
+    private final String[] roles;
+    private final List<List<Placed>> seats = new ArrayList<>();
+
+    //움직이는 중인 카드
+    private final List<Placed> moving = new ArrayList<>();
+
+    //애니메이션 타이머 (움직이는 카드가 있을 때만 실행)
+    private final Timer animator = new Timer(FRAME_MS, e -> step());
+
+    //다음 카드가 출발할 수 있는 시각 (한꺼번에 받은 카드도 한 장씩 차례로 날아가도록)
+    private long nextDealNanos;
+
+    //크기별로 한 번 그려 두는 배경
+    private BufferedImage background;
+
+    //테이블에 놓인 카드 한 장과 애니메이션 상태
+    private static final class Placed {
+        final Card card;
+        final int seat;
+        final int index;
+
+        //애니메이션 시작 위치와 시작 시각 (움직이지 않으면 startNanos == 0)
+        int fromX, fromY;
+        long startNanos;
+
+        //마지막으로 그린 위치 (다시 그릴 영역 계산용)
+        int x, y;
+
+        Placed(Card card, int seat, int index) {
+            this.card = card;
+            this.seat = seat;
+            this.index = index;
+        }
+    }
+
+    TablePanel(String... roles) {
+        this.roles = roles.clone();
+        for (int i = 0; i < roles.length; i++) seats.add(new ArrayList<>());
+
+        setOpaque(true);
+        setDoubleBuffered(true);
+        setPreferredSize(new Dimension(900, roles.length * (CardImages.HEIGHT + TITLE_HEIGHT + PAD * 2 + ROW_GAP)));
+
+        //카드 이미지 로딩 전에는 빈 카드를 그리므로, 끝나면 한 번 다시 그림
+        CardImages.whenLoaded(this::repaint);
+    }
+
+    /*
+     * setCards()
+     * -------------------------------------------------
+     * 자리의 손패 전체를 교체
+     * 이미 놓인 앞부분 카드가 같으면 그대로 두고 새 카드만 날아오게 함
+     */
+    void setCards(String role, Card[] cards) {
+        int seat = seatOf(role);
+        if (seat < 0) return;
+
+        List<Placed> hand = seats.get(seat);
+        int keep = 0;
+        while (keep < hand.size() && keep < cards.length && hand.get(keep).card == cards[keep]) keep++;
+
+        //달라진 뒷부분 제거
+        if (keep < hand.size()) {
+            repaintSeat(seat);
+            List<Placed> removed = hand.subList(keep, hand.size());
+            moving.removeAll(removed);
+            removed.clear();
+            //카드가 적어져 겹침 간격이 바뀔 수 있으므로 나머지 위치도 다시 계산
+            for (Placed p : hand) place(p);
+        }
+
+        for (int i = keep; i < cards.length; i++) deal(seat, cards[i]);
+    }
+
+    //자리 끝에 카드 한 장 추가 (슈에서 날아옴)
+    void addCard(String role, Card card) {
+        int seat = seatOf(role);
+        if (seat >= 0) deal(seat, card);
+    }
+
+    //모든 카드 제거 (새 라운드)
+    void clear() {
+        for (List<Placed> hand : seats) hand.clear();
+        moving.clear();
+        animator.stop();
+        repaint();
+    }
+
+    private int seatOf(String role) {
+        for (int i = 0; i < roles.length; i++) if (roles[i].equals(role)) return i;
+        return -1;
+    }
+
+    /*
+     * deal()
+     * -------------------------------------------------
+     * 카드를 자리에 놓고 슈 위치에서 출발하는 애니메이션 시작
+     * 자리의 카드가 많아 겹쳐 그려야 하면 기존 카드 위치도 다시 계산
+     */
+    private void deal(int seat, Card card) {
+        List<Placed> hand = seats.get(seat);
+        int stepBefore = cardStep(hand.size());
+
+        Placed p = new Placed(card, seat, hand.size());
+        hand.add(p);
+
+        if (cardStep(hand.size()) != stepBefore) {
+            repaintSeat(seat);
+            for (Placed q : hand) place(q);
+        }
+
+        place(p);
+        p.fromX = getWidth() - CardImages.WIDTH - PAD;
+        p.fromY = PAD;
+        p.startNanos = Math.max(System.nanoTime(), nextDealNanos);
+        nextDealNanos = p.startNanos + DEAL_STAGGER_MS * 1_000_000L;
+
+        //카드가 출발하는 위치부터 그림
+        p.x = p.fromX;
+        p.y = p.fromY;
+        repaintCard(p.x, p.y);
+
+        moving.add(p);
+        if (!animator.isRunning()) animator.start();
+    }
+
+    //애니메이션 한 프레임: 움직이는 카드마다 이전 위치와 새 위치만 다시 그림
+    private void step() {
+        long now = System.nanoTime();
+
+        for (int i = moving.size() - 1; i >= 0; i--) {
+            Placed p = moving.get(i);
+            repaintCard(p.x, p.y);
+
+            double t = Math.max(0.0, Math.min(1.0, (now - p.startNanos) / (DEAL_MS * 1e6)));
+            //끝으로 갈수록 느려지는 이동 (ease-out)
+            double e = 1 - (1 - t) * (1 - t) * (1 - t);
+
+            int tx = slotX(p.seat, p.index);
+            int ty = slotY(p.seat);
+            p.x = (int) Math.round(p.fromX + (tx - p.fromX) * e);
+            p.y = (int) Math.round(p.fromY + (ty - p.fromY) * e);
+            repaintCard(p.x, p.y);
+
+            if (t >= 1.0) {
+                p.startNanos = 0;
+                moving.remove(i);
+            }
+        }
+
+        if (moving.isEmpty()) animator.stop();
+    }
+
+    //움직이지 않는 카드를 자리 위치에 놓음
+    private void place(Placed p) {
+        if (p.startNanos != 0) return;
+        p.x = slotX(p.seat, p.index);
+        p.y = slotY(p.seat);
+    }
+
+    //----- 배치 계산 -----
+
+    //자리 하나의 높이
+    private int rowHeight() {
+        return (getHeight() - ROW_GAP * (roles.length - 1)) / roles.length;
+    }
+
+    private int rowTop(int seat) {
+        return seat * (rowHeight() + ROW_GAP);
+    }
+
+    //카드 사이 간격 (자리에 다 들어가지 않으면 겹쳐서 놓음)
+    private int cardStep(int count) {
+        int full = CardImages.WIDTH + CARD_GAP;
+        if (count <= 1) return full;
+
+        int room = getWidth() - PAD * 2 - CardImages.WIDTH;
+        return Math.max(12, Math.min(full, room / (count - 1)));
+    }
+
+    private int slotX(int seat, int index) {
+        return PAD + index * cardStep(seats.get(seat).size());
+    }
+
+    private int slotY(int seat) {
+        return rowTop(seat) + TITLE_HEIGHT + PAD;
+    }
+
+    private void repaintCard(int x, int y) {
+        repaint(x, y, CardImages.WIDTH, CardImages.HEIGHT);
+    }
+
+    private void repaintSeat(int seat) {
+        repaint(0, rowTop(seat), getWidth(), rowHeight());
+    }
+
+    //----- 그리기 -----
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int w = getWidth();
+        int h = getHeight();
+
+        if (background == null || background.getWidth() != w || background.getHeight() != h) {
+            background = paintBackground(w, h);
+            //크기가 바뀌면 카드 위치도 다시 계산
+            for (List<Placed> hand : seats) for (Placed p : hand) place(p);
+        }
+
+        //다시 그릴 영역(clip)과 겹치는 카드만 그림
+        g.drawImage(background, 0, 0, null);
+        Rectangle clip = g.getClipBounds();
+        for (List<Placed> hand : seats) {
+            for (Placed p : hand) {
+                if (clip == null || clip.intersects(p.x, p.y, CardImages.WIDTH, CardImages.HEIGHT)) {
+                    g.drawImage(CardImages.face(p.card).getImage(), p.x, p.y, null);
+                }
+            }
+        }
+    }
+
+    //자리별 초록 영역, 테두리, 제목을 그린 배경 이미지
+    private BufferedImage paintBackground(int w, int h) {
+        BufferedImage img = new BufferedImage(Math.max(w, 1), Math.max(h, 1), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        g.setColor(getParent() != null ? getParent().getBackground() : Color.LIGHT_GRAY);
+        g.fillRect(0, 0, w, h);
+
+        int rh = rowHeight();
+        for (int seat = 0; seat < roles.length; seat++) {
+            int top = rowTop(seat);
+            g.setColor(FELT);
+            g.fillRect(0, top, w, rh);
+            g.setColor(Color.LIGHT_GRAY);
+            g.drawRect(2, top + TITLE_HEIGHT / 2, w - 5, rh - TITLE_HEIGHT / 2 - 3);
+
+            //제목 뒤 테두리 선을 가림
+            FontMetrics fm = g.getFontMetrics();
+            int tw = fm.stringWidth(roles[seat]);
+            g.setColor(FELT);
+            g.fillRect(8, top, tw + 8, TITLE_HEIGHT);
+            g.setColor(Color.WHITE);
+            g.drawString(roles[seat], 12, top + (TITLE_HEIGHT + fm.getAscent()) / 2 - 1);
+        }
+
+        g.dispose();
+        return img;
+    }
+}
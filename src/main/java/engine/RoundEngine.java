@@ -0,0 +1,258 @@
+package engine;
+
+import model.*;
+
+import java.util.Arrays;
+
+/*
+ * RoundEngine
+ * =================================================
+ * [역할]
+ * - 블랙잭 라운드 하나의 규칙을 진행하는 상태 기계
+ *   (배팅 -> 분배 -> 플레이어 턴 -> 딜러 턴 -> 정산)
+ *
+ * [설계 의도]
+ * - 소켓, 메시지, 시간 지연과 무관한 순수 규칙 로직
+ *   → 라이브 테이블, 시뮬레이터, 벤치마크가 같은 규칙을 공유
+ * - 진행 결과는 RoundListener 이벤트로 알림
+ * - 시간 조절(분배 대기, 딜러 카드 간격)은 호출하는 쪽의 책임
+ *   딜러 턴은 dealerNeedsCard() / dealerDraw()로 한 장씩 진행하거나
+ *   settle()에서 한 번에 끝까지 진행할 수 있음
+ * - 스레드 안전하지 않음 (한 테이블/한 스레드에서만 사용)
+ */
+public final class RoundEngine {
+
+    //딜러의 자리 번호
+    public static final int DEALER = -1;
+
+    //딜러가 카드를 그만 받는 점수
+    private static final int DEALER_STAND = 17;
+
+    //라운드 진행 단계
+    public enum Phase {
+        IDLE,           //라운드 시작 전
+        BETTING,        //배팅 중
+        READY,          //모든 플레이어 배팅 완료, 분배 대기
+        PLAYER_TURN,    //플레이어 턴
+        DEALER_TURN,    //딜러 턴
+        FINISHED        //정산 완료
+    }
+
+    private final Shoe shoe;
+    private final Player[] players;
+    private final RoundListener listener;
+
+    //딜러의 손패
+    private final Hand dealer = new Hand();
+
+    //자리별 배팅 완료 여부
+    private final boolean[] betDone;
+
+    private Phase phase = Phase.IDLE;
+
+    //현재 턴인 자리 (PLAYER_TURN 단계에서만 의미 있음)
+    private int turn = 0;
+
+    public RoundEngine(Shoe shoe, Player[] players, RoundListener listener) {
+        this.shoe = shoe;
+        this.players = players;
+        this.listener = listener;
+        this.betDone = new boolean[players.length];
+    }
+
+    /*
+     * startRound()
+     * -------------------------------------------------
+     * 새 라운드 초기화
+     * - 컷 카드에 도달했으면 슈 다시 섞기
+     * - 손패 및 베팅 초기화 후 배팅 단계로 전환
+     */
+    public void startRound() {
+        if (shoe.needsShuffle()) {
+            shoe.shuffle();
+            listener.onShuffle();
+        }
+
+        dealer.clear();
+        for (Player p : players) {
+            p.getHand().clear();
+            p.resetBet();
+        }
+        Arrays.fill(betDone, false);
+
+        phase = Phase.BETTING;
+        listener.onRoundStart();
+    }
+
+    /*
+     * placeBet()
+     * -------------------------------------------------
+     * 배팅 단계에서만 가능, 보유 칩보다 많거나 음수면 거부
+     * 성공하면 true
+     */
+    public boolean placeBet(int seat, int amount) {
+        if (phase != Phase.BETTING || amount < 0) return false;
+
+        Player p = players[seat];
+        if (p.getChips() < amount) return false;
+
+        p.loseChips(amount);
+        p.setBetAmount(p.getBetAmount() + amount);
+
+        listener.onBet(seat, amount, p.getBetAmount());
+        return true;
+    }
+
+    /*
+     * betDone()
+     * -------------------------------------------------
+     * 배팅 완료 처리
+     * 모든 플레이어가 완료하면 READY 단계로 바꾸고 true 반환 (한 번만)
+     */
+    public boolean betDone(int seat) {
+        if (phase != Phase.BETTING) return false;
+
+        betDone[seat] = true;
+        listener.onBetDone(seat);
+
+        for (boolean d : betDone) if (!d) return false;
+
+        phase = Phase.READY;
+        return true;
+    }
+
+    /*
+     * deal()
+     * -------------------------------------------------
+     * 초기 카드 분배
+     * - 각 플레이어 2장, 딜러 2장 (1장은 비공개)
+     * - 첫 번째 자리부터 턴 시작
+     */
+    public void deal() {
+        if (phase != Phase.READY) return;
+
+        for (Player p : players) {
+            p.getHand().addCard(shoe.draw());
+            p.getHand().addCard(shoe.draw());
+        }
+        dealer.addCard(shoe.draw());
+        dealer.addCard(shoe.draw());
+
+        listener.onInitialDeal();
+
+        phase = Phase.PLAYER_TURN;
+        turn = 0;
+        listener.onTurn(0);
+    }
+
+    /*
+     * hit()
+     * -------------------------------------------------
+     * 자기 턴인 플레이어에게 카드 한 장 추가
+     * 버스트하면 다음 차례로 넘어감
+     */
+    public boolean hit(int seat) {
+        if (phase != Phase.PLAYER_TURN || seat != turn) return false;
+
+        Hand h = players[seat].getHand();
+        Card c = shoe.draw();
+        h.addCard(c);
+        listener.onCardDealt(seat, c);
+
+        if (h.isBust()) {
+            listener.onBust(seat);
+            nextTurn();
+        }
+        return true;
+    }
+
+    /*
+     * stand()
+     * -------------------------------------------------
+     * 자기 턴인 플레이어의 Stand, 다음 차례로 넘어감
+     */
+    public boolean stand(int seat) {
+        if (phase != Phase.PLAYER_TURN || seat != turn) return false;
+
+        listener.onStand(seat);
+        nextTurn();
+        return true;
+    }
+
+    //다음 플레이어 턴, 마지막 플레이어였다면 딜러 턴 시작 (숨겨진 카드 공개)
+    private void nextTurn() {
+        turn++;
+        if (turn < players.length) {
+            listener.onTurn(turn);
+            return;
+        }
+
+        phase = Phase.DEALER_TURN;
+        listener.onTurn(DEALER);
+        listener.onHoleCardRevealed(dealer.getCards().get(1));
+    }
+
+    //딜러가 카드를 더 받아야 하는지 (점수 17 미만)
+    public boolean dealerNeedsCard() {
+        return phase == Phase.DEALER_TURN && dealer.getValue() < DEALER_STAND;
+    }
+
+    //딜러에게 카드 한 장 추가
+    public void dealerDraw() {
+        if (!dealerNeedsCard()) return;
+
+        Card c = shoe.draw();
+        dealer.addCard(c);
+        listener.onCardDealt(DEALER, c);
+    }
+
+    /*
+     * settle()
+     * -------------------------------------------------
+     * 딜러 턴을 끝까지 진행한 뒤 모든 플레이어 정산 (규칙은 Settlement)
+     */
+    public void settle() {
+        if (phase != Phase.DEALER_TURN) return;
+
+        while (dealerNeedsCard()) dealerDraw();
+
+        int d = dealer.getValue();
+        for (int seat = 0; seat < players.length; seat++) {
+            Player p = players[seat];
+            int bet = p.getBetAmount();
+            int payout = Settlement.payout(bet, p.getHand(), d);
+
+            p.winChips(payout);
+            listener.onPayout(seat, bet, payout);
+        }
+
+        phase = Phase.FINISHED;
+        listener.onRoundEnd(d);
+    }
+
+    //현재 진행 단계
+    public Phase getPhase() { return phase; }
+
+    //현재 턴인 자리 (딜러 턴이면 DEALER)
+    public int getTurn() {
+        return phase == Phase.DEALER_TURN ? DEALER : turn;
+    }
+
+    //자리의 배팅 완료 여부 (배팅 단계에서만 의미 있음)
+    public boolean isBetDone(int seat) { return betDone[seat]; }
+
+    //자리의 플레이어
+    public Player getPlayer(int seat) { return players[seat]; }
+
+    //플레이어 수
+    public int getSeatCount() { return players.length; }
+
+    //딜러 손패
+    public Hand getDealerHand() { return dealer; }
+
+    //딜러의 공개 카드
+    public Card getDealerUpCard() { return dealer.getCards().get(0); }
+
+    //카드 슈
+    public Shoe getShoe() { return shoe; }
+}
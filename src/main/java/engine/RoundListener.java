@@ -0,0 +1,93 @@
+package engine;
+
+import model.Card;
+
+/*
+ * RoundListener
+ * =================================================
+ * RoundEngine이 라운드 진행 중 발생시키는 이벤트를 받는 인터페이스
+ *
+ * - 서버 테이블은 이벤트를 클라이언트 메시지로 변환하여 전송
+ * - 시뮬레이터는 필요한 이벤트(정산)만 받아 통계를 계산
+ * - 모든 메서드는 기본 구현이 비어 있으므로 필요한 것만 재정의
+ * - seat는 플레이어 자리 번호(0부터), 딜러는 RoundEngine.DEALER
+ * - 여러 리스너에 같은 이벤트를 전달하려면 both()로 묶음 (예: 테이블 + 라운드 기록)
+ */
+public interface RoundListener {
+
+    //아무 것도 하지 않는 리스너
+    RoundListener NONE = new RoundListener() {};
+
+    //컷 카드에 도달하여 슈를 다시 섞음
+    default void onShuffle() {}
+
+    //새 라운드 시작 (배팅 단계)
+    default void onRoundStart() {}
+
+    //배팅 (amount: 이번에 건 칩, total: 이번 라운드 누적 배팅)
+    default void onBet(int seat, int amount, int total) {}
+
+    //배팅 완료
+    default void onBetDone(int seat) {}
+
+    //처음 카드 분배 완료 (플레이어마다 2장, 딜러 2장 중 1장 공개)
+    default void onInitialDeal() {}
+
+    //턴 변경 (딜러 턴이면 seat == DEALER)
+    default void onTurn(int seat) {}
+
+    //처음 분배 이후 카드 한 장이 추가됨 (Hit, 딜러 카드)
+    default void onCardDealt(int seat, Card card) {}
+
+    //딜러의 숨겨진 카드 공개
+    default void onHoleCardRevealed(Card card) {}
+
+    //Stand
+    default void onStand(int seat) {}
+
+    //버스트
+    default void onBust(int seat) {}
+
+    //정산 (bet: 건 칩, payout: 돌려받은 칩)
+    default void onPayout(int seat, int bet, int payout) {}
+
+    //라운드 종료
+    default void onRoundEnd(int dealerValue) {}
+
+    /*
+     * both()
+     * -------------------------------------------------
+     * 모든 이벤트를 first, second 순서로 전달하는 리스너
+     */
+    static RoundListener both(RoundListener first, RoundListener second) {
+        return new RoundListener() {
+            @Override public void onShuffle() { first.onShuffle(); second.onShuffle(); }
+            @Override public void onRoundStart() { first.onRoundStart(); second.onRoundStart(); }
+            @Override public void onBet(int seat, int amount, int total) {
+                first.onBet(seat, amount, total);
+                second.onBet(seat, amount, total);
+            }
+            @Override public void onBetDone(int seat) { first.onBetDone(seat); second.onBetDone(seat); }
+            @Override public void onInitialDeal() { first.onInitialDeal(); second.onInitialDeal(); }
+            @Override public void onTurn(int seat) { first.onTurn(seat); second.onTurn(seat); }
+            @Override public void onCardDealt(int seat, Card card) {
+                first.onCardDealt(seat, card);
+                second.onCardDealt(seat, card);
+            }
+            @Override public void onHoleCardRevealed(Card card) {
+                first.onHoleCardRevealed(card);
+                second.onHoleCardRevealed(card);
+            }
+            @Override public void onStand(int seat) { first.onStand(seat); second.onStand(seat); }
+            @Override public void onBust(int seat) { first.onBust(seat); second.onBust(seat); }
+            @Override public void onPayout(int seat, int bet, int payout) {
+                first.onPayout(seat, bet, payout);
+                second.onPayout(seat, bet, payout);
+            }
+            @Override public void onRoundEnd(int dealerValue) {
+                first.onRoundEnd(dealerValue);
+                second.onRoundEnd(dealerValue);
+            }
+        };
+    }
+}
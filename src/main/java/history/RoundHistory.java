@@ -0,0 +1,240 @@
+package history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/*
+ * RoundHistory
+ * =================================================
+ * [역할]
+ * - 모든 테이블의 라운드 기록을 하나의 추가 전용 파일(rounds.dat)에 저장하고
+ *   라운드 번호로 바로 찾을 수 있도록 색인 파일(rounds.idx)을 함께 기록
+ *
+ * [파일 형식]
+ * - rounds.dat : [본문 길이 4][CRC32 4][본문(RoundRecord)] 의 나열
+ * - rounds.idx : 라운드마다 [rounds.dat 위치 8][본문 길이 4] 고정 12바이트
+ *   라운드 번호는 1부터 파일 순서대로 매기므로 번호 N의 색인은 (N-1)*12 위치
+ *   -> 전체를 읽지 않고 색인 한 칸과 기록 하나만 읽으면 됨
+ *
+ * [설계 의도]
+ * - 테이블은 완성된 라운드 바이트를 큐에 넣기만 하고 기다리지 않음
+ * - 기록 스레드 하나가 쌓인 라운드를 버퍼에 모아 파일마다 write 한 번으로 기록
+ * - 원장과 달리 돈이 오가는 기록이 아니므로 라운드마다 fsync하지 않음
+ *   (프로세스가 죽어도 OS에 넘긴 내용은 남고, 종료 시 한 번 fsync)
+ * - 시작 시 색인과 파일 끝을 맞추어 중간에 끊긴 마지막 기록을 잘라냄
+ */
+public final class RoundHistory implements AutoCloseable {
+
+    static final String DATA_FILE = "rounds.dat";
+    static final String INDEX_FILE = "rounds.idx";
+
+    //기록 헤더(길이 + CRC)와 색인 한 칸의 크기
+    static final int HEADER = 8;
+    static final int INDEX_ENTRY = 12;
+
+    //한 번에 큐에서 꺼내 기록하는 최대 라운드 수
+    private static final int MAX_BATCH = 4096;
+
+    //쌓인 기록이 없을 때 기다리는 시간(ms)
+    private static final long POLL_MS = 50;
+
+    //기록하지 않는 인스턴스 (-Dbj.history=off)
+    private static final RoundHistory DISABLED = new RoundHistory();
+
+    private final BlockingQueue<byte[]> queue;
+    private final FileChannel data;
+    private final FileChannel index;
+    private final Thread writer;
+    private volatile boolean running;
+
+    //----- 기록 스레드 전용 상태 -----
+
+    //다음 라운드 번호와 rounds.dat의 끝 위치
+    private long nextId;
+    private long dataEnd;
+
+    //write 한 번에 모아 보낼 버퍼 (크기가 모자라면 늘림)
+    private ByteBuffer dataBuf = ByteBuffer.allocateDirect(1 << 20);
+    private ByteBuffer indexBuf = ByteBuffer.allocateDirect(MAX_BATCH * INDEX_ENTRY);
+    private final CRC32 crc = new CRC32();
+
+    private RoundHistory() {
+        this.queue = null;
+        this.data = null;
+        this.index = null;
+        this.writer = null;
+        this.running = false;
+    }
+
+    private RoundHistory(FileChannel data, FileChannel index, long count, long dataEnd) {
+        this.queue = new LinkedBlockingQueue<>();
+        this.data = data;
+        this.index = index;
+        this.nextId = count + 1;
+        this.dataEnd = dataEnd;
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("history-writer").daemon(true).unstarted(this::writeLoop);
+    }
+
+    //기록하지 않는 인스턴스
+    public static RoundHistory disabled() {
+        return DISABLED;
+    }
+
+    /*
+     * open()
+     * -------------------------------------------------
+     * dir의 기록 파일을 열고 (없으면 생성) 이어서 기록
+     * 색인에 없는 꼬리 데이터와 데이터가 없는 색인은 잘라냄
+     */
+    public static RoundHistory open(Path dir) throws IOException {
+        Files.createDirectories(dir);
+
+        FileChannel data = FileChannel.open(dir.resolve(DATA_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(dir.resolve(INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            long count = index.size() / INDEX_ENTRY;
+            long dataEnd = 0;
+
+            //마지막 색인부터 거꾸로, 데이터가 온전한 기록을 찾을 때까지
+            ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY);
+            while (count > 0) {
+                entry.clear();
+                index.read(entry, (count - 1) * INDEX_ENTRY);
+                long offset = entry.getLong(0);
+                int len = entry.getInt(8);
+                long end = offset + HEADER + len;
+                if (end <= data.size() && RoundHistoryReader.readBody(data, offset, len) != null) {
+                    dataEnd = end;
+                    break;
+                }
+                count--;
+            }
+
+            index.truncate(count * INDEX_ENTRY);
+            data.truncate(dataEnd);
+
+            RoundHistory h = new RoundHistory(data, index, count, dataEnd);
+            h.writer.start();
+            return h;
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            index.close();
+            throw e;
+        }
+    }
+
+    //기록 여부
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    //완성된 라운드 본문 추가 (어느 스레드에서든 호출 가능, 바로 반환)
+    void append(byte[] body) {
+        if (running) queue.add(body);
+    }
+
+    /*
+     * close()
+     * -------------------------------------------------
+     * 남은 기록을 모두 쓰고 fsync한 뒤 기록 스레드 종료
+     */
+    @Override
+    public void close() {
+        if (writer == null) return;
+
+        //인터럽트는 파일 채널을 닫아 버리므로 사용하지 않음
+        running = false;
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * writeLoop()
+     * -------------------------------------------------
+     * 큐의 라운드를 모아 rounds.dat에 이어 쓰고, 이어서 색인을 기록
+     * (색인을 데이터보다 나중에 쓰므로 색인이 가리키는 데이터는 항상 존재)
+     */
+    private void writeLoop() {
+        List<byte[]> batch = new ArrayList<>(MAX_BATCH);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                byte[] first = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+            } catch (InterruptedException e) {
+                queue.drainTo(batch, MAX_BATCH);
+            }
+
+            long startId = nextId;
+            long startEnd = dataEnd;
+            try {
+                writeBatch(batch);
+            } catch (IOException e) {
+                //번호와 파일 끝을 되돌려 색인과 데이터가 어긋나지 않게 함 (이 묶음은 버림)
+                System.out.println("라운드 기록 오류: " + e.getMessage());
+                nextId = startId;
+                dataEnd = startEnd;
+                try { data.truncate(startEnd); } catch (IOException ignored) {}
+            }
+            batch.clear();
+        }
+
+        try {
+            data.force(false);
+            index.force(false);
+            data.close();
+            index.close();
+        } catch (IOException e) {
+            System.out.println("라운드 기록 종료 오류: " + e.getMessage());
+        }
+    }
+
+    //라운드 묶음 기록 (번호 매김 -> 데이터 write -> 색인 write)
+    private void writeBatch(List<byte[]> batch) throws IOException {
+        int bytes = 0;
+        for (byte[] body : batch) bytes += HEADER + body.length;
+        if (dataBuf.capacity() < bytes) dataBuf = ByteBuffer.allocateDirect(Integer.highestOneBit(bytes) << 1);
+
+        dataBuf.clear();
+        indexBuf.clear();
+        long pos = dataEnd;
+
+        for (byte[] body : batch) {
+            //앞 8바이트에 라운드 번호 기록
+            ByteBuffer.wrap(body).putLong(0, nextId++);
+
+            crc.reset();
+            crc.update(body);
+            dataBuf.putInt(body.length).putInt((int) crc.getValue()).put(body);
+
+            indexBuf.putLong(pos).putInt(body.length);
+            pos += HEADER + body.length;
+        }
+
+        dataBuf.flip();
+        while (dataBuf.hasRemaining()) dataEnd += data.write(dataBuf, dataEnd);
+
+        indexBuf.flip();
+        long indexPos = (nextId - 1 - batch.size()) * INDEX_ENTRY;
+        while (indexBuf.hasRemaining()) indexPos += index.write(indexBuf, indexPos);
+    }
+}
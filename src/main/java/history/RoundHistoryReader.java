@@ -0,0 +1,154 @@
+package history;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.zip.CRC32;
+
+/*
+ * RoundHistoryReader
+ * =================================================
+ * [역할]
+ * - RoundHistory가 남긴 기록 파일을 읽음
+ *   read(번호) : 색인으로 위치를 찾아 라운드 하나만 읽음
+ *   forEach()  : 처음부터 끝까지 순서대로 스트림 읽기 (색인 사용 안 함)
+ *
+ * [설계 의도]
+ * - 서버가 기록 중인 파일도 읽을 수 있도록 읽기 전용으로 열고
+ *   CRC가 맞지 않거나 끊긴 기록을 만나면 거기서 멈춤
+ * - CRC는 맞는데 본문을 해석할 수 없는 기록은 길이로 경계를 알 수 있으므로
+ *   그 기록만 건너뛰고 위치(offset)를 알린 뒤 계속 읽음
+ */
+public final class RoundHistoryReader implements AutoCloseable {
+
+    //스트림 읽기 버퍼 크기
+    private static final int STREAM_BUFFER = 1 << 16;
+
+    private final FileChannel data;
+    private final FileChannel index;
+
+    public RoundHistoryReader(Path dir) throws IOException {
+        this.data = FileChannel.open(dir.resolve(RoundHistory.DATA_FILE), StandardOpenOption.READ);
+        try {
+            this.index = FileChannel.open(dir.resolve(RoundHistory.INDEX_FILE), StandardOpenOption.READ);
+        } catch (IOException e) {
+            data.close();
+            throw e;
+        }
+    }
+
+    //색인에 등록된 라운드 수 (마지막 라운드 번호)
+    public long count() throws IOException {
+        return index.size() / RoundHistory.INDEX_ENTRY;
+    }
+
+    /*
+     * read()
+     * -------------------------------------------------
+     * 라운드 번호로 기록 하나를 찾아 해석 (없거나 손상되었거나 해석할 수 없으면 null)
+     */
+    public RoundRecord read(long roundId) throws IOException {
+        if (roundId < 1 || roundId > count()) return null;
+
+        ByteBuffer entry = ByteBuffer.allocate(RoundHistory.INDEX_ENTRY);
+        long pos = (roundId - 1) * RoundHistory.INDEX_ENTRY;
+        while (entry.hasRemaining()) {
+            if (index.read(entry, pos + entry.position()) < 0) return null;
+        }
+
+        ByteBuffer body = readBody(data, entry.getLong(0), entry.getInt(8));
+        if (body == null) return null;
+        try {
+            return RoundRecord.decode(body);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /*
+     * forEach()
+     * -------------------------------------------------
+     * 모든 기록을 파일 순서대로 해석하여 전달
+     * 해석할 수 없는 기록은 건너뛰고 onCorrupt(오류 내용, 파일 위치)로 알림
+     * 반환값: 읽은 라운드 수 (건너뛴 기록 제외)
+     */
+    public long forEach(Consumer<RoundRecord> action, ObjLongConsumer<String> onCorrupt) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Channels.newInputStream(data.position(0)), STREAM_BUFFER));
+
+        CRC32 crc = new CRC32();
+        byte[] body = new byte[256];
+        long n = 0;
+        long offset = 0;
+
+        while (true) {
+            int len, expected;
+            try {
+                len = in.readInt();
+                expected = in.readInt();
+                if (len <= 0) break;
+                if (len > body.length) body = new byte[Math.max(len, body.length * 2)];
+                in.readFully(body, 0, len);
+            } catch (EOFException e) {
+                break;
+            }
+
+            crc.reset();
+            crc.update(body, 0, len);
+            if ((int) crc.getValue() != expected) break;
+
+            RoundRecord r;
+            try {
+                r = RoundRecord.decode(ByteBuffer.wrap(body, 0, len));
+            } catch (IllegalArgumentException e) {
+                r = null;
+                onCorrupt.accept(e.getMessage(), offset);
+            }
+            offset += RoundHistory.HEADER + len;
+            if (r == null) continue;
+
+            action.accept(r);
+            n++;
+        }
+        return n;
+    }
+
+    /*
+     * readBody()
+     * -------------------------------------------------
+     * offset 위치의 기록 하나를 읽어 CRC를 확인한 뒤 본문만 반환
+     * 길이가 다르거나 CRC가 맞지 않으면 null
+     */
+    static ByteBuffer readBody(FileChannel ch, long offset, int len) throws IOException {
+        if (len <= 0) return null;
+
+        ByteBuffer buf = ByteBuffer.allocate(RoundHistory.HEADER + len);
+        while (buf.hasRemaining()) {
+            if (ch.read(buf, offset + buf.position()) < 0) return null;
+        }
+        buf.flip();
+
+        if (buf.getInt() != len) return null;
+        int expected = buf.getInt();
+
+        CRC32 crc = new CRC32();
+        crc.update(buf.array(), RoundHistory.HEADER, len);
+        if ((int) crc.getValue() != expected) return null;
+
+        return buf.slice();
+    }
+
+    @Override
+    public void close() throws IOException {
+        data.close();
+        index.close();
+    }
+}
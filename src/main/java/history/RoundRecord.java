@@ -0,0 +1,252 @@
+package history;
+
+import model.Card;
+import model.Hand;
+import model.Settlement;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * RoundRecord
+ * =================================================
+ * [역할]
+ * - 라운드 기록 파일에 저장되는 라운드 하나의 형식 정의와 해석 결과
+ * - 기록된 카드로 손패를 다시 만들어 정산 결과를 재검증
+ *
+ * [본문 형식] (빅엔디언)
+ * - [라운드 번호 8][시작 시각(ms) 8][테이블 ID 길이 1][테이블 ID UTF-8]
+ * - [라운드 시작 시 슈 위치 2][셔플 여부 1][자리 수 1][자리별 시작 칩 4...]
+ * - 이벤트 목록: [종류 1][인자...] 를 EV_END까지 나열
+ * - 카드는 1바이트 카드 번호(0~51), 자리는 엔진 자리 번호(0부터)
+ *
+ * [설계 의도]
+ * - 라운드 하나가 보통 40~60바이트라 테이블마다 매 라운드 기록해도 부담이 적음
+ * - 손패를 따로 저장하지 않고 카드가 나온 순서만 저장하여
+ *   재생 시 같은 순서로 다시 분배하면 어느 시점의 상태든 복원 가능
+ */
+public final class RoundRecord {
+
+    //----- 이벤트 종류 -----
+    static final byte EV_BET = 1;           //[seat][금액 4]
+    static final byte EV_BET_DONE = 2;      //[seat]
+    static final byte EV_DEAL = 3;          //[자리마다 카드 2장][딜러 카드 2장]
+    static final byte EV_HIT = 4;           //[seat][카드]
+    static final byte EV_STAND = 5;         //[seat]
+    static final byte EV_BUST = 6;          //[seat]
+    static final byte EV_DEALER_CARD = 7;   //[카드]
+    static final byte EV_PAYOUT = 8;        //[seat][배팅 4][지급 4]
+    static final byte EV_END = 9;           //[딜러 점수 1]
+
+    public final long roundId;
+    public final long time;
+    public final String tableId;
+    public final int shoePosition;
+    public final boolean shuffled;
+
+    //자리별 라운드 시작 칩, 배팅 합계, 지급 칩
+    private final int[] startChips;
+    private final int[] bets;
+    private final int[] payouts;
+
+    //기록된 카드로 다시 만든 손패
+    private final Hand[] hands;
+    private final Hand dealer = new Hand();
+
+    //기록된 딜러 점수 (END 이벤트)
+    private int dealerValue = -1;
+
+    //진행 순서대로의 행동 설명 (출력용)
+    private final List<String> actions = new ArrayList<>();
+
+    private RoundRecord(long roundId, long time, String tableId,
+                        int shoePosition, boolean shuffled, int[] startChips) {
+        this.roundId = roundId;
+        this.time = time;
+        this.tableId = tableId;
+        this.shoePosition = shoePosition;
+        this.shuffled = shuffled;
+        this.startChips = startChips;
+
+        int seats = startChips.length;
+        this.bets = new int[seats];
+        this.payouts = new int[seats];
+        this.hands = new Hand[seats];
+        for (int i = 0; i < seats; i++) hands[i] = new Hand();
+    }
+
+    /*
+     * decode()
+     * -------------------------------------------------
+     * 본문(헤더 제외) 하나를 해석
+     * 형식이 맞지 않으면 IllegalArgumentException
+     */
+    static RoundRecord decode(ByteBuffer b) {
+        try {
+            long id = b.getLong();
+            long time = b.getLong();
+            byte[] name = new byte[b.get() & 0xFF];
+            b.get(name);
+            int shoePos = b.getShort() & 0xFFFF;
+            boolean shuffled = b.get() != 0;
+
+            int[] chips = new int[b.get() & 0xFF];
+            for (int i = 0; i < chips.length; i++) chips[i] = b.getInt();
+
+            RoundRecord r = new RoundRecord(id, time,
+                    new String(name, StandardCharsets.UTF_8), shoePos, shuffled, chips);
+            r.readEvents(b);
+            return r;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("라운드 기록 형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    //EV_END까지 이벤트를 읽어 손패와 정산 정보를 채움
+    private void readEvents(ByteBuffer b) {
+        while (true) {
+            byte ev = b.get();
+            switch (ev) {
+                case EV_BET -> {
+                    int seat = b.get();
+                    int amount = b.getInt();
+                    bets[seat] += amount;
+                    actions.add(seatName(seat) + " 배팅 " + amount);
+                }
+                case EV_BET_DONE -> actions.add(seatName(b.get()) + " 배팅 완료");
+                case EV_DEAL -> {
+                    for (Hand h : hands) {
+                        h.addCard(card(b));
+                        h.addCard(card(b));
+                    }
+                    dealer.addCard(card(b));
+                    dealer.addCard(card(b));
+                    actions.add("분배");
+                }
+                case EV_HIT -> {
+                    int seat = b.get();
+                    Card c = card(b);
+                    hands[seat].addCard(c);
+                    actions.add(seatName(seat) + " Hit " + c.getName());
+                }
+                case EV_STAND -> actions.add(seatName(b.get()) + " Stand");
+                case EV_BUST -> actions.add(seatName(b.get()) + " 버스트");
+                case EV_DEALER_CARD -> {
+                    Card c = card(b);
+                    dealer.addCard(c);
+                    actions.add("딜러 " + c.getName());
+                }
+                case EV_PAYOUT -> {
+                    int seat = b.get();
+                    int bet = b.getInt();
+                    payouts[seat] = b.getInt();
+                    if (bet != bets[seat]) {
+                        throw new IllegalArgumentException("배팅 합계 불일치: " + seatName(seat));
+                    }
+                }
+                case EV_END -> {
+                    dealerValue = b.get();
+                    return;
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 이벤트: " + ev);
+            }
+        }
+    }
+
+    private static Card card(ByteBuffer b) {
+        int id = b.get();
+        if (id < 0 || id >= Card.COUNT) throw new IllegalArgumentException("카드 번호 오류: " + id);
+        return Card.of(id);
+    }
+
+    private static String seatName(int seat) {
+        return "P" + (seat + 1);
+    }
+
+    //자리 수
+    public int seatCount() { return startChips.length; }
+
+    //자리의 라운드 시작 칩
+    public int startChips(int seat) { return startChips[seat]; }
+
+    //자리의 배팅 합계
+    public int bet(int seat) { return bets[seat]; }
+
+    //자리에 지급된 칩
+    public int payout(int seat) { return payouts[seat]; }
+
+    //자리의 라운드 종료 칩
+    public int endChips(int seat) { return startChips[seat] - bets[seat] + payouts[seat]; }
+
+    //다시 만든 손패
+    public Hand hand(int seat) { return hands[seat]; }
+
+    public Hand dealerHand() { return dealer; }
+
+    public int dealerValue() { return dealerValue; }
+
+    //라운드가 끝난 뒤의 슈 위치 (이번 라운드에 나온 카드 수만큼 진행)
+    public int endShoePosition() {
+        int n = dealer.size();
+        for (Hand h : hands) n += h.size();
+        return shoePosition + n;
+    }
+
+    /*
+     * verify()
+     * -------------------------------------------------
+     * 기록된 카드로 결과를 다시 계산하여 기록된 결과와 비교
+     * - 딜러 점수, 딜러가 17 미만에서만 카드를 받았는지
+     * - 자리별 지급 칩 = Settlement 규칙으로 계산한 값
+     * 모두 맞으면 null, 아니면 어긋난 내용
+     */
+    public String verify() {
+        int d = dealer.getValue();
+        if (d != dealerValue) return "딜러 점수 " + dealerValue + " != 재계산 " + d;
+
+        //딜러는 마지막 카드 직전까지 17 미만이어야 함 (처음 2장 이후 추가 카드가 있을 때)
+        List<Card> dc = dealer.getCards();
+        if (dc.size() > 2) {
+            Hand before = new Hand();
+            for (int i = 0; i < dc.size() - 1; i++) before.addCard(dc.get(i));
+            if (before.getValue() >= 17) return "딜러가 " + before.getValue() + "에서 카드를 받음";
+        }
+        if (d < 17) return "딜러가 " + d + "에서 멈춤";
+
+        for (int seat = 0; seat < hands.length; seat++) {
+            int expected = Settlement.payout(bets[seat], hands[seat], d);
+            if (expected != payouts[seat]) {
+                return seatName(seat) + " 지급 " + payouts[seat] + " != 재계산 " + expected;
+            }
+        }
+        return null;
+    }
+
+    //라운드 내용을 여러 줄 문자열로 출력
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("라운드 #%d | 테이블 %s | %tF %<tT | 슈 위치 %d%s%n",
+                roundId, tableId, time, shoePosition, shuffled ? " (셔플)" : ""));
+        for (String a : actions) sb.append("  ").append(a).append('\n');
+
+        sb.append("  딜러 ").append(cards(dealer)).append(" = ").append(dealerValue).append('\n');
+        for (int seat = 0; seat < hands.length; seat++) {
+            sb.append(String.format("  %s %s = %d | 배팅 %d, 지급 %d | 칩 %d -> %d%n",
+                    seatName(seat), cards(hands[seat]), hands[seat].getValue(),
+                    bets[seat], payouts[seat], startChips[seat], endChips(seat)));
+        }
+        return sb.toString();
+    }
+
+    private static String cards(Hand h) {
+        StringBuilder sb = new StringBuilder();
+        for (Card c : h.getCards()) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(c.getName());
+        }
+        return sb.toString();
+    }
+}
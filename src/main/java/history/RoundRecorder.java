@@ -0,0 +1,189 @@
+package history;
+
+import engine.RoundEngine;
+import engine.RoundListener;
+import model.Card;
+import model.Hand;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * RoundRecorder
+ * =================================================
+ * [역할]
+ * - 테이블 하나의 라운드 이벤트를 받아 RoundRecord 형식의 바이트로 모으고
+ *   라운드가 끝나면 RoundHistory에 넘김
+ *
+ * [설계 의도]
+ * - 테이블마다 하나씩 두고 테이블 메일박스 안에서만 호출되므로 잠금이 없음
+ * - 라운드 동안은 재사용하는 배열에 바로 써 넣고, 라운드가 끝날 때 한 번만 복사
+ * - 라운드 번호는 RoundHistory의 기록 스레드가 파일 순서대로 매김 (앞 8바이트는 자리만 비워 둠)
+ * - 끝나지 않은 라운드(엔진 교체 등)는 다음 라운드 시작 시 버림
+ */
+public final class RoundRecorder implements RoundListener {
+
+    private final RoundHistory history;
+    private final byte[] tableId;
+
+    //기록 대상 엔진 (카드와 칩을 읽음)
+    private RoundEngine engine;
+
+    //현재 라운드의 본문 (재사용)
+    private byte[] buf = new byte[128];
+    private int len = 0;
+
+    //현재 라운드를 기록 중인지 (onRoundStart 이후)
+    private boolean recording = false;
+
+    //라운드 시작 전에 셔플했는지
+    private boolean shuffled = false;
+
+    public RoundRecorder(String tableId, RoundHistory history) {
+        byte[] name = tableId.getBytes(StandardCharsets.UTF_8);
+        this.tableId = name.length > 255 ? Arrays.copyOf(name, 255) : name;
+        this.history = history;
+    }
+
+    //이벤트를 받을 엔진 연결 (엔진 생성 직후 호출)
+    public void attach(RoundEngine engine) {
+        this.engine = engine;
+        this.recording = false;
+    }
+
+    @Override
+    public void onShuffle() {
+        shuffled = true;
+    }
+
+    /*
+     * onRoundStart()
+     * -------------------------------------------------
+     * 본문 앞부분(라운드 번호 자리, 시각, 테이블, 슈 위치, 자리별 시작 칩) 기록
+     */
+    @Override
+    public void onRoundStart() {
+        len = 0;
+        putLong(0);
+        putLong(System.currentTimeMillis());
+        put(tableId.length);
+        ensure(tableId.length);
+        System.arraycopy(tableId, 0, buf, len, tableId.length);
+        len += tableId.length;
+
+        putShort(engine.getShoe().position());
+        put(shuffled ? 1 : 0);
+        shuffled = false;
+
+        int seats = engine.getSeatCount();
+        put(seats);
+        for (int seat = 0; seat < seats; seat++) putInt(engine.getPlayer(seat).getChips());
+
+        recording = true;
+    }
+
+    @Override
+    public void onBet(int seat, int amount, int total) {
+        if (!recording) return;
+        put(RoundRecord.EV_BET);
+        put(seat);
+        putInt(amount);
+    }
+
+    @Override
+    public void onBetDone(int seat) {
+        event(RoundRecord.EV_BET_DONE, seat);
+    }
+
+    @Override
+    public void onInitialDeal() {
+        if (!recording) return;
+        put(RoundRecord.EV_DEAL);
+        for (int seat = 0; seat < engine.getSeatCount(); seat++) putCards(engine.getPlayer(seat).getHand());
+        putCards(engine.getDealerHand());
+    }
+
+    @Override
+    public void onCardDealt(int seat, Card card) {
+        if (!recording) return;
+        if (seat == RoundEngine.DEALER) {
+            put(RoundRecord.EV_DEALER_CARD);
+        } else {
+            put(RoundRecord.EV_HIT);
+            put(seat);
+        }
+        put(card.getId());
+    }
+
+    @Override
+    public void onStand(int seat) {
+        event(RoundRecord.EV_STAND, seat);
+    }
+
+    @Override
+    public void onBust(int seat) {
+        event(RoundRecord.EV_BUST, seat);
+    }
+
+    @Override
+    public void onPayout(int seat, int bet, int payout) {
+        if (!recording) return;
+        put(RoundRecord.EV_PAYOUT);
+        put(seat);
+        putInt(bet);
+        putInt(payout);
+    }
+
+    //라운드 종료: 본문을 복사하여 기록 큐에 넘김
+    @Override
+    public void onRoundEnd(int dealerValue) {
+        if (!recording) return;
+        event(RoundRecord.EV_END, dealerValue);
+        history.append(Arrays.copyOf(buf, len));
+        recording = false;
+    }
+
+    //----- 본문 쓰기 -----
+
+    private void event(byte type, int arg) {
+        if (!recording) return;
+        put(type);
+        put(arg);
+    }
+
+    //처음 분배된 2장
+    private void putCards(Hand h) {
+        List<Card> cards = h.getCards();
+        put(cards.get(0).getId());
+        put(cards.get(1).getId());
+    }
+
+    private void ensure(int n) {
+        if (len + n > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, len + n));
+    }
+
+    private void put(int v) {
+        ensure(1);
+        buf[len++] = (byte) v;
+    }
+
+    private void putShort(int v) {
+        ensure(2);
+        buf[len++] = (byte) (v >>> 8);
+        buf[len++] = (byte) v;
+    }
+
+    private void putInt(int v) {
+        ensure(4);
+        buf[len++] = (byte) (v >>> 24);
+        buf[len++] = (byte) (v >>> 16);
+        buf[len++] = (byte) (v >>> 8);
+        buf[len++] = (byte) v;
+    }
+
+    private void putLong(long v) {
+        putInt((int) (v >>> 32));
+        putInt((int) v);
+    }
+}
@@ -0,0 +1,110 @@
+package history;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/*
+ * RoundReplay
+ * =================================================
+ * [역할]
+ * - 서버가 남긴 라운드 기록을 읽어 확인하는 명령줄 도구
+ *
+ * [사용법]
+ *   --dir=경로       기록 위치 (기본 data/history)
+ *   --round=N        라운드 N 하나만 색인으로 찾아 출력
+ *   --table=ID       테이블 ID의 라운드만 재생하여 마지막 상태(자리별 칩, 슈 위치) 출력
+ *   --print          재생하는 라운드를 모두 출력
+ *   (옵션이 없으면 전체 기록을 순서대로 읽어 모든 라운드의 결과를 재검증)
+ */
+public final class RoundReplay {
+
+    //출력할 불일치 최대 개수
+    private static final int MAX_REPORT = 20;
+
+    private RoundReplay() {}
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Path.of("data", "history");
+        long round = 0;
+        String table = null;
+        boolean print = false;
+
+        for (String a : args) {
+            String v = a.substring(a.indexOf('=') + 1);
+            if (a.startsWith("--dir=")) dir = Path.of(v);
+            else if (a.startsWith("--round=")) round = Long.parseLong(v);
+            else if (a.startsWith("--table=")) table = v;
+            else if (a.equals("--print")) print = true;
+        }
+
+        try (RoundHistoryReader reader = new RoundHistoryReader(dir)) {
+            if (round > 0) {
+                showRound(reader, round);
+                return;
+            }
+            replay(reader, table, print);
+        }
+    }
+
+    //라운드 하나 출력 및 검증
+    private static void showRound(RoundHistoryReader reader, long round) throws IOException {
+        RoundRecord r = reader.read(round);
+        if (r == null) {
+            System.out.println("라운드 #" + round + " 없음 또는 손상 (기록된 라운드 " + reader.count() + "개)");
+            return;
+        }
+
+        System.out.print(r);
+        String err = r.verify();
+        System.out.println(err == null ? "검증: 일치" : "검증: 불일치 - " + err);
+    }
+
+    /*
+     * replay()
+     * -------------------------------------------------
+     * 모든 기록을 순서대로 읽으며 재검증
+     * table이 주어지면 그 테이블의 라운드만 재생하여 마지막 상태를 출력
+     */
+    private static void replay(RoundHistoryReader reader, String table, boolean print) throws IOException {
+        long[] checked = new long[1];
+        long[] mismatches = new long[1];
+        long[] corrupt = new long[1];
+        RoundRecord[] last = new RoundRecord[1];
+
+        long start = System.nanoTime();
+        long total = reader.forEach(r -> {
+            if (table != null && !table.equals(r.tableId)) return;
+
+            checked[0]++;
+            last[0] = r;
+            if (print) System.out.print(r);
+
+            String err = r.verify();
+            if (err != null && mismatches[0]++ < MAX_REPORT) {
+                System.out.println("불일치 라운드 #" + r.roundId + " (" + r.tableId + "): " + err);
+            }
+        }, (err, offset) -> {
+            //해석할 수 없는 기록은 건너뛰고 위치만 알림
+            if (corrupt[0]++ < MAX_REPORT) System.out.println("손상된 기록 (위치 " + offset + "): " + err);
+        });
+        double sec = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("읽은 라운드 %,d개 (%.2f초, %,.0f 라운드/초) | 검증 %,d개 | 불일치 %,d개 | 손상 %,d개%n",
+                total, sec, total / Math.max(sec, 1e-9), checked[0], mismatches[0], corrupt[0]);
+
+        if (table == null) return;
+
+        RoundRecord r = last[0];
+        if (r == null) {
+            System.out.println("테이블 " + table + "의 기록 없음");
+            return;
+        }
+
+        //마지막 라운드가 끝난 뒤의 테이블 상태
+        int[] chips = new int[r.seatCount()];
+        for (int seat = 0; seat < chips.length; seat++) chips[seat] = r.endChips(seat);
+        System.out.printf("테이블 %s 마지막 라운드 #%d | 슈 위치 %d | 자리별 칩 %s%n",
+                table, r.roundId, r.endShoePosition(), Arrays.toString(chips));
+    }
+}
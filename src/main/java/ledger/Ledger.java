@@ -0,0 +1,145 @@
+package ledger;
+
+import model.Player;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Ledger
+ * =================================================
+ * [역할]
+ * - 플레이어 계정별 칩 잔액과 배팅/정산 거래를 보관하는 원장
+ * - 서버를 다시 시작하거나 다시 접속해도 잔액이 유지되도록 디스크에 저장
+ *
+ * [설계 의도]
+ * - 잔액 조회는 메모리(ConcurrentHashMap)에서 바로 처리
+ * - 거래는 LedgerLog의 기록 큐에 넣기만 하고 반환 (fsync는 기록 스레드가 모아서 수행)
+ * - 기록에는 거래 후 잔액을 함께 남기므로 복구는 마지막 잔액만 취하면 됨
+ * - inMemory()는 디스크에 쓰지 않는 원장 (저장이 필요 없는 실행용)
+ * - 기록은 자리(Player)가 들고 있는 거래 후 잔액으로 덮어쓰므로
+ *   한 계정은 한 번에 한 자리에서만 사용 (claim / release)
+ *   두 자리가 같은 잔액을 따로 쓰면 칩이 복제되거나 사라짐
+ */
+public final class Ledger implements AutoCloseable {
+
+    //계정 이름의 최대 글자 수
+    public static final int MAX_ACCOUNT_LENGTH = 64;
+
+    //계정 -> 현재 잔액
+    private final Map<String, Integer> balances = new ConcurrentHashMap<>();
+
+    //계정 -> 잔액을 사용 중인 자리 이름 (메모리 전용, 저장하지 않음)
+    private final Map<String, String> holders = new ConcurrentHashMap<>();
+
+    //디스크 기록 (메모리 전용이면 null)
+    private final LedgerLog log;
+
+    private Ledger(Path dir) throws IOException {
+        this.log = dir == null ? null : LedgerLog.open(dir, balances);
+    }
+
+    /*
+     * open()
+     * -------------------------------------------------
+     * dir의 스냅샷과 로그로 잔액을 복원하고 기록을 시작
+     */
+    public static Ledger open(Path dir) throws IOException {
+        return new Ledger(dir);
+    }
+
+    //디스크에 기록하지 않는 원장
+    public static Ledger inMemory() {
+        try {
+            return new Ledger(null);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /*
+     * isValidAccount()
+     * -------------------------------------------------
+     * 계정 이름으로 쓸 수 있는지 확인
+     * 1~MAX_ACCOUNT_LENGTH자의 글자, 숫자, '_', '-', '.', '/'만 허용
+     * (UTF-8로 192바이트 이하이므로 로그 기록의 2바이트 길이와 스냅샷의 writeUTF 한도 안에 들어감)
+     */
+    public static boolean isValidAccount(String account) {
+        if (account.isEmpty() || account.length() > MAX_ACCOUNT_LENGTH) return false;
+
+        for (int i = 0; i < account.length(); i++) {
+            char c = account.charAt(i);
+            if (!Character.isLetterOrDigit(c) && "_-./".indexOf(c) < 0) return false;
+        }
+        return true;
+    }
+
+    /*
+     * openAccount()
+     * -------------------------------------------------
+     * 계정의 현재 잔액을 반환
+     * - 처음 보는 계정이면 시작 칩으로 계정 생성
+     * - 칩을 모두 잃은 계정이면 시작 칩을 다시 지급
+     * - 쓸 수 없는 계정 이름이면 IllegalArgumentException (로그와 스냅샷을 깨뜨리지 않도록)
+     */
+    public int openAccount(String account) {
+        if (!isValidAccount(account)) throw new IllegalArgumentException("잘못된 계정 이름: " + account);
+
+        Integer cur = balances.get(account);
+        if (cur != null && cur > 0) return cur;
+
+        int chips = Player.STARTING_CHIPS;
+        record(cur == null ? LedgerRecord.OPEN : LedgerRecord.REBUY, account, chips, chips);
+        return chips;
+    }
+
+    /*
+     * claim()
+     * -------------------------------------------------
+     * 계정을 seat 자리에서 사용하도록 예약
+     * 다른 자리가 이미 사용 중이면 false (같은 자리가 다시 예약하면 true)
+     */
+    public boolean claim(String account, String seat) {
+        String held = holders.putIfAbsent(account, seat);
+        return held == null || held.equals(seat);
+    }
+
+    //seat 자리의 계정 사용 종료 (다른 자리가 예약한 경우는 그대로 둠)
+    public void release(String account, String seat) {
+        holders.remove(account, seat);
+    }
+
+    //배팅 기록 (balance: 배팅 후 잔액)
+    public void bet(String account, int amount, int balance) {
+        record(LedgerRecord.BET, account, -amount, balance);
+    }
+
+    //정산 지급 기록 (balance: 지급 후 잔액)
+    public void payout(String account, int payout, int balance) {
+        record(LedgerRecord.PAYOUT, account, payout, balance);
+    }
+
+    //계정의 현재 잔액 (없는 계정이면 -1)
+    public int balance(String account) {
+        Integer b = balances.get(account);
+        return b == null ? -1 : b;
+    }
+
+    //저장된 계정 수
+    public int accountCount() {
+        return balances.size();
+    }
+
+    private void record(byte type, String account, int delta, int balance) {
+        balances.put(account, balance);
+        if (log != null) log.append(new LedgerRecord(type, account, delta, balance, System.currentTimeMillis()));
+    }
+
+    //남은 기록을 모두 디스크에 반영하고 종료
+    @Override
+    public void close() {
+        if (log != null) log.close();
+    }
+}
@@ -0,0 +1,271 @@
+package ledger;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/*
+ * LedgerLog
+ * =================================================
+ * [역할]
+ * - 원장 거래를 메모리 매핑된 세그먼트 파일에 순서대로 추가 기록(WAL)
+ * - 주기적으로 스냅샷을 남기고 스냅샷 이전 세그먼트를 삭제
+ *
+ * [설계 의도]
+ * - 게임 스레드는 기록을 큐에 넣기만 하고 기다리지 않음
+ * - 전용 기록 스레드 하나가 쌓인 기록을 한 번에 세그먼트에 복사하고
+ *   fsync(force)는 FLUSH_MS마다 한 번만 수행 (group commit)
+ *   -> 초당 수천 건의 정산도 기록마다 fsync하지 않고 저장
+ *   -> 비정상 종료 시 잃을 수 있는 것은 마지막 FLUSH_MS 동안의 기록뿐
+ * - 세그먼트가 가득 차면 새 세그먼트를 만들고 스냅샷을 남긴 뒤 이전 세그먼트 삭제
+ *   (매핑이 해제되지 않아 삭제에 실패한 파일은 다음 시작 때 다시 정리)
+ *
+ * [파일]
+ * - segment-번호.wal : 세그먼트 (SEGMENT_BYTES 크기로 미리 만들어 매핑)
+ * - snapshot.dat     : 스냅샷 (LedgerSnapshot)
+ */
+final class LedgerLog {
+
+    //세그먼트 크기 (-Dbj.ledgerSegmentMB=N, 기본 16MB)
+    static final int SEGMENT_BYTES = Integer.getInteger("bj.ledgerSegmentMB", 16) << 20;
+
+    //fsync 간격 (-Dbj.ledgerFlushMs=N, 기본 10ms)
+    static final long FLUSH_MS = Long.getLong("bj.ledgerFlushMs", 10);
+
+    //스냅샷 간격 (-Dbj.ledgerSnapshotSec=N, 기본 60초)
+    static final long SNAPSHOT_SEC = Long.getLong("bj.ledgerSnapshotSec", 60);
+
+    //한 번에 큐에서 꺼내 기록하는 최대 개수
+    private static final int MAX_BATCH = 4096;
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".wal";
+
+    private final Path dir;
+
+    //기록 대기 큐 (게임 스레드 -> 기록 스레드)
+    private final BlockingQueue<LedgerRecord> queue = new LinkedBlockingQueue<>();
+
+    //----- 기록 스레드 전용 상태 -----
+
+    //디스크에 기록된 계정별 잔액 (스냅샷 원본)
+    private final Map<String, Integer> durable;
+
+    //마지막으로 기록한 순번
+    private long seq;
+
+    //현재 세그먼트 번호와 매핑
+    private long segmentNo;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+
+    //현재 세그먼트에서 아직 fsync하지 않은 구간의 시작
+    private int forcedTo;
+
+    private long lastSnapshotNanos = System.nanoTime();
+    private final CRC32 crc = new CRC32();
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private LedgerLog(Path dir, Map<String, Integer> durable, long seq, long segmentNo) {
+        this.dir = dir;
+        this.durable = durable;
+        this.seq = seq;
+        this.segmentNo = segmentNo;
+        this.writer = Thread.ofPlatform().name("ledger-writer").daemon(true).unstarted(this::writeLoop);
+    }
+
+    /*
+     * open()
+     * -------------------------------------------------
+     * 스냅샷과 그 이후 세그먼트를 재생하여 잔액을 복원하고
+     * 새 세그먼트에서 기록을 시작
+     * 복원된 잔액은 balances에 채움
+     */
+    static LedgerLog open(Path dir, Map<String, Integer> balances) throws IOException {
+        Files.createDirectories(dir);
+
+        LedgerSnapshot snap = LedgerSnapshot.read(dir);
+        Map<String, Integer> durable = snap == null ? new HashMap<>() : snap.balances;
+        long snapSeq = snap == null ? 0 : snap.lastSeq;
+        long seq = snapSeq;
+
+        //스냅샷 이후의 기록 재생 (세그먼트 번호 순서)
+        List<Path> segments = listSegments(dir);
+        CRC32 crc = new CRC32();
+        for (Path p : segments) {
+            try (FileChannel ch = FileChannel.open(p, StandardOpenOption.READ)) {
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                LedgerRecord r;
+                while ((r = LedgerRecord.readFrom(buf, crc)) != null) {
+                    if (r.seq > snapSeq) durable.put(r.account, r.balance);
+                    seq = Math.max(seq, r.seq);
+                }
+            }
+        }
+
+        long next = segments.isEmpty() ? 1 : segmentNumber(segments.get(segments.size() - 1)) + 1;
+        LedgerLog log = new LedgerLog(dir, durable, seq, next);
+
+        //복원한 상태를 스냅샷으로 남기고 이전 세그먼트 정리
+        log.openSegment();
+        log.snapshot();
+
+        balances.putAll(durable);
+        log.writer.start();
+        return log;
+    }
+
+    //기록 추가 (어느 스레드에서든 호출 가능, 바로 반환)
+    void append(LedgerRecord r) {
+        if (running) queue.add(r);
+    }
+
+    //마지막 순번 (계측/확인용)
+    long lastSeq() {
+        return seq;
+    }
+
+    /*
+     * close()
+     * -------------------------------------------------
+     * 남은 기록을 모두 쓰고 fsync한 뒤 기록 스레드 종료
+     */
+    void close() {
+        //인터럽트는 파일 채널을 닫아 버리므로 사용하지 않고, 기록 스레드가 플래그를 보고 끝나도록 함
+        running = false;
+        try {
+            writer.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * writeLoop()
+     * -------------------------------------------------
+     * 큐의 기록을 모아 세그먼트에 쓰고, FLUSH_MS마다 한 번 fsync
+     * 큐가 비면 바로 fsync하여 한가할 때는 지연 없이 저장
+     */
+    private void writeLoop() {
+        List<LedgerRecord> batch = new ArrayList<>(MAX_BATCH);
+        long lastForce = System.nanoTime();
+        long flushNanos = TimeUnit.MILLISECONDS.toNanos(FLUSH_MS);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                LedgerRecord first = queue.poll(FLUSH_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                }
+            } catch (InterruptedException e) {
+                queue.drainTo(batch);
+            }
+
+            try {
+                for (LedgerRecord r : batch) write(r);
+                batch.clear();
+
+                long now = System.nanoTime();
+                boolean dirty = segment.position() > forcedTo;
+                if (dirty && (queue.isEmpty() || now - lastForce >= flushNanos)) {
+                    force();
+                    lastForce = now;
+                }
+
+                if (now - lastSnapshotNanos >= TimeUnit.SECONDS.toNanos(SNAPSHOT_SEC)) snapshot();
+            } catch (IOException e) {
+                System.out.println("원장 기록 오류: " + e.getMessage());
+                batch.clear();
+            }
+        }
+
+        try {
+            force();
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("원장 종료 오류: " + e.getMessage());
+        }
+    }
+
+    //기록 하나를 현재 세그먼트에 추가 (공간이 없으면 새 세그먼트)
+    private void write(LedgerRecord r) throws IOException {
+        if (segment.remaining() < r.size() + LedgerRecord.HEADER) rollSegment();
+
+        r.seq = ++seq;
+        r.writeTo(segment, crc);
+        durable.put(r.account, r.balance);
+    }
+
+    //아직 fsync하지 않은 구간을 디스크에 반영
+    private void force() {
+        int pos = segment.position();
+        if (pos > forcedTo) {
+            segment.force(forcedTo, pos - forcedTo);
+            forcedTo = pos;
+        }
+    }
+
+    //현재 세그먼트를 닫고 새 세그먼트를 연 뒤 스냅샷
+    private void rollSegment() throws IOException {
+        force();
+        channel.close();
+        segmentNo++;
+        openSegment();
+        snapshot();
+    }
+
+    //segmentNo 번호의 세그먼트 파일을 만들어 매핑
+    private void openSegment() throws IOException {
+        Path p = dir.resolve(String.format("%s%016d%s", PREFIX, segmentNo, SUFFIX));
+        channel = FileChannel.open(p, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_BYTES);
+        forcedTo = 0;
+        LedgerSnapshot.forceDirectory(dir);
+    }
+
+    /*
+     * snapshot()
+     * -------------------------------------------------
+     * 지금까지 기록한 잔액을 스냅샷으로 저장하고
+     * 현재 세그먼트보다 앞선 세그먼트 삭제 (모두 스냅샷에 반영되었으므로)
+     */
+    private void snapshot() throws IOException {
+        force();
+        LedgerSnapshot.write(dir, seq, durable);
+        lastSnapshotNanos = System.nanoTime();
+
+        for (Path p : listSegments(dir)) {
+            if (segmentNumber(p) >= segmentNo) continue;
+            try {
+                Files.deleteIfExists(p);
+            } catch (IOException ignored) {
+                //매핑이 남아 있어 삭제할 수 없는 OS에서는 다음 시작 때 다시 시도
+            }
+        }
+    }
+
+    //세그먼트 파일 목록 (번호 순서)
+    private static List<Path> listSegments(Path dir) throws IOException {
+        List<Path> list = new ArrayList<>();
+        try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir, PREFIX + "*" + SUFFIX)) {
+            for (Path p : ds) list.add(p);
+        }
+        list.sort(Comparator.comparingLong(LedgerLog::segmentNumber));
+        return list;
+    }
+
+    private static long segmentNumber(Path p) {
+        String name = p.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,114 @@
+package ledger;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/*
+ * LedgerRecord
+ * =================================================
+ * [역할]
+ * - 원장 로그(WAL)에 기록되는 거래 하나
+ *
+ * [기록 형식]
+ * - [payload 길이 int][CRC32 int][payload]
+ * - payload: [종류 1][순번 8][시각(ms) 8][변화량 4][거래 후 잔액 4][계정 길이 2][계정 UTF-8]
+ * - 길이가 0이면 세그먼트의 끝 (새 세그먼트 파일은 0으로 채워져 있음)
+ * - 거래 후 잔액을 함께 기록하므로 복구 시 계정별 마지막 기록의 잔액만 취하면 됨
+ */
+final class LedgerRecord {
+
+    //거래 종류
+    static final byte OPEN = 1;      //계정 생성 (시작 칩)
+    static final byte BET = 2;       //배팅 (변화량 음수)
+    static final byte PAYOUT = 3;    //정산 지급 (변화량 0 이상)
+    static final byte REBUY = 4;     //칩 소진 후 시작 칩 재지급
+
+    //헤더(길이 + CRC) 크기
+    static final int HEADER = 8;
+
+    //계정 이름을 제외한 payload 크기
+    private static final int FIXED = 1 + 8 + 8 + 4 + 4 + 2;
+
+    final byte type;
+    final String account;
+    final int delta;
+    final int balance;
+    final long time;
+
+    //로그에 쓸 때 기록 스레드가 매기는 순번
+    long seq;
+
+    //계정 이름의 UTF-8 바이트 (인코딩은 한 번만)
+    private final byte[] accountBytes;
+
+    LedgerRecord(byte type, String account, int delta, int balance, long time) {
+        this.type = type;
+        this.account = account;
+        this.delta = delta;
+        this.balance = balance;
+        this.time = time;
+        this.accountBytes = account.getBytes(StandardCharsets.UTF_8);
+    }
+
+    //헤더를 포함한 기록 크기
+    int size() {
+        return HEADER + FIXED + accountBytes.length;
+    }
+
+    /*
+     * writeTo()
+     * -------------------------------------------------
+     * buf의 현재 위치에 기록 (남은 공간은 호출자가 확인)
+     */
+    void writeTo(ByteBuffer buf, CRC32 crc) {
+        int start = buf.position();
+        int payloadLen = FIXED + accountBytes.length;
+
+        buf.position(start + HEADER);
+        buf.put(type).putLong(seq).putLong(time).putInt(delta).putInt(balance)
+                .putShort((short) accountBytes.length).put(accountBytes);
+
+        crc.reset();
+        crc.update(buf.duplicate().position(start + HEADER).limit(start + HEADER + payloadLen));
+
+        //길이는 마지막에 기록하여, 쓰다 만 기록은 길이 0(끝)으로 보이도록 함
+        buf.putInt(start + 4, (int) crc.getValue());
+        buf.putInt(start, payloadLen);
+    }
+
+    /*
+     * readFrom()
+     * -------------------------------------------------
+     * buf의 현재 위치에서 기록 하나를 읽음
+     * 세그먼트 끝이거나 손상된 기록이면 null (위치는 그대로)
+     */
+    static LedgerRecord readFrom(ByteBuffer buf, CRC32 crc) {
+        int start = buf.position();
+        if (buf.remaining() < HEADER) return null;
+
+        int payloadLen = buf.getInt(start);
+        if (payloadLen < FIXED || payloadLen > buf.remaining() - HEADER) return null;
+
+        crc.reset();
+        crc.update(buf.duplicate().position(start + HEADER).limit(start + HEADER + payloadLen));
+        if ((int) crc.getValue() != buf.getInt(start + 4)) return null;
+
+        buf.position(start + HEADER);
+        byte type = buf.get();
+        long seq = buf.getLong();
+        long time = buf.getLong();
+        int delta = buf.getInt();
+        int balance = buf.getInt();
+        byte[] name = new byte[buf.getShort() & 0xFFFF];
+        if (name.length != payloadLen - FIXED) {
+            buf.position(start);
+            return null;
+        }
+        buf.get(name);
+
+        LedgerRecord r = new LedgerRecord(type, new String(name, StandardCharsets.UTF_8), delta, balance, time);
+        r.seq = seq;
+        return r;
+    }
+}
@@ -0,0 +1,106 @@
+package ledger;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/*
+ * LedgerSnapshot
+ * =================================================
+ * [역할]
+ * - 특정 순번까지 반영된 모든 계정 잔액을 파일 하나로 저장/복원
+ *
+ * [설계 의도]
+ * - 스냅샷 이후의 로그만 재생하면 되므로 복구 시간이 로그 길이와 무관
+ * - 임시 파일에 쓰고 fsync한 뒤 원자적으로 이름을 바꾸므로
+ *   저장 도중 종료되어도 이전 스냅샷이 그대로 남음
+ *
+ * [파일 형식]
+ * - [MAGIC int][마지막 순번 long][계정 수 int][(계정 UTF, 잔액 int) ...][CRC32 long]
+ */
+final class LedgerSnapshot {
+
+    static final String FILE = "snapshot.dat";
+    private static final String TMP = "snapshot.tmp";
+    private static final int MAGIC = 0x424A4C53;   //"BJLS"
+
+    //스냅샷에 반영된 마지막 기록 순번
+    final long lastSeq;
+
+    //계정 -> 잔액
+    final Map<String, Integer> balances;
+
+    private LedgerSnapshot(long lastSeq, Map<String, Integer> balances) {
+        this.lastSeq = lastSeq;
+        this.balances = balances;
+    }
+
+    /*
+     * write()
+     * -------------------------------------------------
+     * lastSeq까지 반영된 잔액을 dir의 스냅샷 파일로 저장
+     */
+    static void write(Path dir, long lastSeq, Map<String, Integer> balances) throws IOException {
+        Path tmp = dir.resolve(TMP);
+
+        try (FileOutputStream fos = new FileOutputStream(tmp.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fos, 65536), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(MAGIC);
+            out.writeLong(lastSeq);
+            out.writeInt(balances.size());
+            for (Map.Entry<String, Integer> e : balances.entrySet()) {
+                out.writeUTF(e.getKey());
+                out.writeInt(e.getValue());
+            }
+            out.flush();
+            new DataOutputStream(fos).writeLong(checked.getChecksum().getValue());
+
+            fos.getChannel().force(true);
+        }
+
+        Files.move(tmp, dir.resolve(FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(dir);
+    }
+
+    /*
+     * read()
+     * -------------------------------------------------
+     * dir의 스냅샷을 읽음 (없으면 null, 손상되었으면 IOException)
+     */
+    static LedgerSnapshot read(Path dir) throws IOException {
+        Path file = dir.resolve(FILE);
+        if (!Files.exists(file)) return null;
+
+        try (InputStream fis = new BufferedInputStream(Files.newInputStream(file), 65536)) {
+            CheckedInputStream checked = new CheckedInputStream(fis, new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+
+            if (in.readInt() != MAGIC) throw new IOException("원장 스냅샷 형식 오류: " + file);
+            long lastSeq = in.readLong();
+            int count = in.readInt();
+
+            Map<String, Integer> balances = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) balances.put(in.readUTF(), in.readInt());
+
+            long expected = checked.getChecksum().getValue();
+            if (new DataInputStream(fis).readLong() != expected) {
+                throw new IOException("원장 스냅샷 체크섬 오류: " + file);
+            }
+            return new LedgerSnapshot(lastSeq, balances);
+        }
+    }
+
+    //이름 변경이 디스크에 반영되도록 디렉터리 fsync (지원하지 않는 OS에서는 무시)
+    static void forceDirectory(Path dir) {
+        try (FileChannel ch = FileChannel.open(dir, StandardOpenOption.READ)) {
+            ch.force(true);
+        } catch (IOException ignored) {}
+    }
+}
@@ -0,0 +1,220 @@
+package load;
+
+import client.CardMessage;
+import model.Card;
+import model.Hand;
+import protocol.BinaryProtocol;
+import protocol.WireInput;
+import sim.Strategy;
+
+import java.io.*;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Bot
+ * =================================================
+ * [역할]
+ * - 화면 없이 BlackjackClient와 같은 프로토콜로 게임을 진행하는 부하 테스트용 클라이언트
+ *
+ * [동작]
+ * - 접속 후 (선택) PROTO:BIN 협상, MODE:역할:테이블 전송
+ * - INFO:BETTING -> BET:금액, BET:DONE
+ * - 자기 턴 -> Strategy로 Hit / Stand 결정
+ * - 칩이 0이 되어 게임이 끝나면 같은 테이블에 다시 착석하여 계속 진행
+ *
+ * [측정]
+ * - 명령을 보낸 시점부터 그 명령에 대한 서버 응답을 받을 때까지의 지연
+ *   BET -> "CHAT:[역할] +" / GAME:HIT -> GAME:CARD_ADD:역할 / GAME:STAND -> "CHAT:[역할] Stand"
+ * - PLAYER1 봇이 결과 메시지를 받을 때마다 라운드 1회로 집계 (테이블당 한 번)
+ *
+ * 응답은 모두 읽기 스레드에서 보내므로 봇 하나가 스레드 하나만 사용
+ */
+final class Bot implements Runnable {
+
+    //응답을 기다리는 명령 종류
+    private static final int NONE = 0, BET = 1, HIT = 2, STAND = 3;
+
+    private final String host;
+    private final int port;
+    private final String role;
+    private final String tableId;
+    private final boolean binary;
+    private final int bet;
+    private final Strategy strategy;
+    private final LoadStats stats;
+
+    private Socket socket;
+    private WireInput in;
+    private OutputStream out;
+
+    //자기 손패와 딜러 공개 카드
+    private final Hand hand = new Hand();
+    private int dealerUp = -1;
+
+    //내 턴 여부
+    private boolean myTurn = false;
+
+    //내 보유 칩 (CHIPS 메시지로 갱신, 모르면 -1)
+    private int chips = -1;
+
+    //이번 라운드 결과가 나왔는지, 그 뒤 다시 착석했는지
+    private boolean roundOver = false;
+    private boolean rejoined = false;
+
+    //응답을 기다리는 명령과 보낸 시각
+    private int pending = NONE;
+    private long sentAt;
+
+    private volatile boolean running = true;
+
+    Bot(String host, int port, String role, String tableId, boolean binary,
+        int bet, Strategy strategy, LoadStats stats) {
+        this.host = host;
+        this.port = port;
+        this.role = role;
+        this.tableId = tableId;
+        this.binary = binary;
+        this.bet = bet;
+        this.strategy = strategy;
+        this.stats = stats;
+    }
+
+    //서버 접속 (호출한 스레드에서 수행, 실패 시 IOException)
+    void connect() throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        in = new WireInput(new BufferedInputStream(socket.getInputStream(), 8192));
+        out = new BufferedOutputStream(socket.getOutputStream(), 512);
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (binary) send(BinaryProtocol.HANDSHAKE);
+            join();
+
+            String msg;
+            while (running && (msg = in.next()) != null) {
+                stats.messages.increment();
+                onMessage(msg);
+            }
+        } catch (IOException e) {
+            if (running) stats.errors.increment();
+        } finally {
+            stop();
+        }
+    }
+
+    //테이블 착석
+    private void join() throws IOException {
+        send("MODE:" + role + ":" + tableId);
+    }
+
+    //서버 메시지 하나 처리
+    private void onMessage(String msg) throws IOException {
+        if (msg.equals(BinaryProtocol.HANDSHAKE)) {
+            in.switchToBinary();
+        }
+        else if (msg.equals("GAME:RESET")) {
+            hand.clear();
+            dealerUp = -1;
+            myTurn = false;
+            roundOver = false;
+            rejoined = false;
+        }
+        else if (msg.equals("INFO:BETTING")) {
+            //보유 칩보다 많이 걸면 서버가 거부하므로 남은 칩만큼만 배팅
+            int amount = chips < 0 ? bet : Math.min(bet, chips);
+            if (amount > 0) {
+                expect(BET);
+                send("BET:" + amount);
+            }
+            send("BET:DONE");
+        }
+        else if (msg.startsWith("GAME:CARD:")) {
+            CardMessage m = CardMessage.parseCards(msg);
+            if (m.getRole().equals(role)) {
+                hand.clear();
+                for (Card c : m.getCards()) hand.addCard(c);
+            }
+            else if (m.getRole().equals("DEALER")) {
+                dealerUp = m.getCards()[0].getId();
+            }
+        }
+        else if (msg.startsWith("GAME:CARD_ADD:")) {
+            CardMessage m = CardMessage.parseCardAdd(msg);
+            if (!m.getRole().equals(role)) return;
+
+            hand.addCard(m.getCards()[0]);
+            answered(HIT);
+
+            //버스트하지 않았으면 계속 결정 (버스트 시 서버가 턴을 넘김)
+            if (myTurn && !hand.isBust()) decide();
+        }
+        else if (msg.startsWith("GAME:TURN:")) {
+            myTurn = msg.endsWith(role);
+            if (myTurn) decide();
+        }
+        else if (msg.startsWith("CHAT:[" + role + "] ")) {
+            String text = msg.substring(role.length() + 8);
+            if (text.startsWith("+")) answered(BET);
+            else if (text.equals("Stand")) answered(STAND);
+        }
+        else if (msg.startsWith("CHAT:[RESULT]")) {
+            roundOver = true;
+            if (role.equals("PLAYER1")) stats.rounds.increment();
+        }
+        else if (msg.startsWith("CHIPS:P")) {
+            int amount = Integer.parseInt(msg.substring(9));
+            if (msg.charAt(7) == role.charAt(6)) chips = amount;
+
+            //결과 발표 후 누군가 칩을 모두 잃으면 게임이 끝나므로 다시 착석하여 새 게임 시작
+            if (roundOver && amount == 0 && !rejoined) {
+                rejoined = true;
+                chips = -1;
+                if (role.equals("PLAYER1")) stats.restarts.increment();
+                join();
+            }
+        }
+    }
+
+    //Strategy로 Hit / Stand 결정
+    private void decide() throws IOException {
+        if (strategy.hit(hand, dealerUp)) {
+            expect(HIT);
+            send("GAME:HIT");
+        } else {
+            myTurn = false;
+            expect(STAND);
+            send("GAME:STAND");
+        }
+    }
+
+    //응답을 기다릴 명령 기록
+    private void expect(int kind) {
+        pending = kind;
+        sentAt = System.nanoTime();
+    }
+
+    //기다리던 명령의 응답이면 지연 시간 기록
+    private void answered(int kind) {
+        if (pending != kind) return;
+        stats.latency.record(System.nanoTime() - sentAt);
+        pending = NONE;
+    }
+
+    //서버로 메시지 한 줄 전송
+    private void send(String line) throws IOException {
+        out.write(binary && !line.equals(BinaryProtocol.HANDSHAKE)
+                ? BinaryProtocol.encode(line)
+                : (line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    //연결 종료
+    void stop() {
+        running = false;
+        try { if (socket != null) socket.close(); } catch (IOException ignored) {}
+    }
+}
@@ -0,0 +1,196 @@
+package load;
+
+import metrics.LatencyHistogram;
+import server.BlackjackServer;
+import sim.Strategies;
+import sim.Strategy;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * LoadGenerator
+ * =================================================
+ * [역할]
+ * - 화면 없는 봇 클라이언트(Bot) 수천 개로 서버에 부하를 거는 도구
+ * - 초마다 라운드/초, 메시지/초, 명령 응답 지연 백분위(p50/p99/p999)를 출력
+ * - 서버를 같은 JVM에서 실행(--embedded)하면 CPU 사용률과 힙 사용량도 출력
+ *
+ * [설계 의도]
+ * - 봇은 테이블마다 PLAYER1, PLAYER2 두 개 (테이블 ID: load-번호)
+ * - 봇마다 가상 스레드 하나를 사용하므로 수천 개의 연결도 적은 자원으로 유지
+ * - Hit / Stand 결정은 시뮬레이터와 같은 sim.Strategy 사용
+ *
+ * [실행]
+ * java -cp out\classes load.LoadGenerator --embedded=nio --tables=500 --duration=30
+ *   --host=H          서버 주소 (기본 127.0.0.1)
+ *   --port=N          서버 포트 (기본 5555)
+ *   --tables=N        테이블 수, 봇은 2N개 (기본 100)
+ *   --duration=N      측정 시간(초) (기본 30)
+ *   --strategy=NAME   dealer | basic | never-bust | stand (기본 basic)
+ *   --bet=N           라운드당 배팅 칩 (기본 10)
+ *   --protocol=P      bin | text (기본 bin)
+ *   --embedded=MODE   같은 JVM에서 서버 실행: thread | virtual | nio (기본 사용 안 함)
+ *   --io-threads=N    --embedded=nio의 I/O 스레드 수 (기본 1)
+ *
+ * 외부 서버를 측정할 때는 서버의 진행 지연을 0으로 두어야 처리량을 볼 수 있음
+ *   -Dbj.dealDelayMs=0 -Dbj.dealerDrawDelayMs=0 -Dbj.nextRoundDelayMs=0
+ * (--embedded 사용 시 따로 지정하지 않았다면 0으로 설정)
+ */
+public class LoadGenerator {
+
+    //프로그램 시작 지점
+    public static void main(String[] args) throws Exception {
+        String host = "127.0.0.1";
+        int port = 5555;
+        int tables = 100, duration = 30, bet = 10, ioThreads = 1;
+        String strategy = "basic";
+        String protocol = "bin";
+        String embedded = null;
+
+        for (String a : args) {
+            String v = a.substring(a.indexOf('=') + 1);
+            if (a.startsWith("--host=")) host = v;
+            else if (a.startsWith("--port=")) port = Integer.parseInt(v);
+            else if (a.startsWith("--tables=")) tables = Integer.parseInt(v);
+            else if (a.startsWith("--duration=")) duration = Integer.parseInt(v);
+            else if (a.startsWith("--strategy=")) strategy = v;
+            else if (a.startsWith("--bet=")) bet = Integer.parseInt(v);
+            else if (a.startsWith("--protocol=")) protocol = v;
+            else if (a.startsWith("--embedded=")) embedded = v;
+            else if (a.startsWith("--io-threads=")) ioThreads = Integer.parseInt(v);
+        }
+
+        if (embedded != null) startEmbeddedServer(embedded, ioThreads, host, port);
+
+        Strategy s = Strategies.byName(strategy);
+        boolean binary = !protocol.equalsIgnoreCase("text");
+        LoadStats stats = new LoadStats();
+
+        System.out.println("==== Blackjack Load Generator ====");
+        System.out.printf("서버 %s:%d%s | 테이블 %,d (봇 %,d) | 전략 %s | 배팅 %d | 프로토콜 %s | %d초%n",
+                host, port, embedded == null ? "" : " (내장 " + embedded + ")",
+                tables, tables * 2, strategy, bet, binary ? "bin" : "text", duration);
+
+        //봇 접속 (서버 접속 대기열이 넘치지 않도록 순서대로 연결)
+        List<Bot> bots = new ArrayList<>(tables * 2);
+        long connectStart = System.nanoTime();
+        for (int t = 0; t < tables; t++) {
+            for (String role : new String[]{"PLAYER1", "PLAYER2"}) {
+                Bot b = new Bot(host, port, role, "load-" + t, binary, bet, s, stats);
+                b.connect();
+                bots.add(b);
+                Thread.ofVirtual().name("bot-" + t + "-" + role).start(b);
+            }
+        }
+        System.out.printf("봇 %,d개 접속 완료 (%.2f초)%n", bots.size(), (System.nanoTime() - connectStart) / 1e9);
+
+        run(stats, duration, embedded != null);
+
+        for (Bot b : bots) b.stop();
+        System.exit(0);
+    }
+
+    /*
+     * run()
+     * -------------------------------------------------
+     * duration초 동안 1초마다 구간 통계를 출력하고 마지막에 전체 요약 출력
+     */
+    private static void run(LoadStats stats, int duration, boolean local) throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        System.out.println("  초 |   라운드/초 |    메시지/초 |   p50(us) |   p99(us) |  p999(us) | CPU(%) | 힙(MB)");
+
+        long start = System.nanoTime();
+        long lastRounds = 0, lastMessages = 0;
+        long gcStart = gcCount();
+
+        for (int sec = 1; sec <= duration; sec++) {
+            Thread.sleep(1000);
+
+            long rounds = stats.rounds.sum();
+            long messages = stats.messages.sum();
+
+            LatencyHistogram h = stats.latency;
+            String resources = local
+                    ? String.format("%6.1f | %6d", processCpuPercent(), memory.getHeapMemoryUsage().getUsed() >> 20)
+                    : "     - |      -";
+
+            System.out.printf("%4d | %,11d | %,12d | %9.1f | %9.1f | %9.1f | %s%n",
+                    sec, rounds - lastRounds, messages - lastMessages,
+                    h.percentile(50) / 1e3, h.percentile(99) / 1e3, h.percentile(99.9) / 1e3, resources);
+
+            h.drainTo(stats.total);
+            lastRounds = rounds;
+            lastMessages = messages;
+        }
+
+        double sec = (System.nanoTime() - start) / 1e9;
+        LatencyHistogram t = stats.total;
+
+        System.out.println("==== 요약 ====");
+        System.out.printf("라운드        : %,d (%,.0f 라운드/초)%n", stats.rounds.sum(), stats.rounds.sum() / sec);
+        System.out.printf("메시지        : %,d (%,.0f 메시지/초)%n", stats.messages.sum(), stats.messages.sum() / sec);
+        System.out.printf("응답 지연(us) : p50 %.1f | p99 %.1f | p999 %.1f (%,d건)%n",
+                t.percentile(50) / 1e3, t.percentile(99) / 1e3, t.percentile(99.9) / 1e3, t.count());
+        System.out.printf("게임 재시작   : %,d | 연결 오류 %,d%n", stats.restarts.sum(), stats.errors.sum());
+        if (local) {
+            System.out.printf("GC 횟수       : %,d | 힙 %dMB (봇 포함 같은 JVM 기준)%n",
+                    gcCount() - gcStart, memory.getHeapMemoryUsage().getUsed() >> 20);
+        }
+    }
+
+    /*
+     * startEmbeddedServer()
+     * -------------------------------------------------
+     * 같은 JVM의 데몬 스레드에서 서버를 시작하고 접속 가능할 때까지 대기
+     * 진행 지연을 따로 지정하지 않았으면 0으로 두어 처리량을 측정
+     */
+    private static void startEmbeddedServer(String mode, int ioThreads, String host, int port)
+            throws InterruptedException {
+        for (String p : new String[]{"bj.dealDelayMs", "bj.dealerDrawDelayMs", "bj.nextRoundDelayMs"}) {
+            if (System.getProperty(p) == null) System.setProperty(p, "0");
+        }
+
+        BlackjackServer server = new BlackjackServer();
+        Runnable start = switch (mode) {
+            case "nio" -> () -> server.startNioServer(ioThreads);
+            case "virtual" -> () -> server.startServer(Thread.ofVirtual().name("client-", 0).factory());
+            default -> server::startServer;
+        };
+        Thread.ofPlatform().name("embedded-server").daemon(true).start(start);
+
+        //서버 소켓이 열릴 때까지 대기
+        for (int i = 0; i < 100; i++) {
+            try {
+                new Socket(host, port).close();
+                return;
+            } catch (IOException e) {
+                Thread.sleep(50);
+            }
+        }
+        throw new IllegalStateException("내장 서버가 시작되지 않음");
+    }
+
+    //JVM 프로세스의 CPU 사용률(%) (전체 코어 기준, 알 수 없으면 -1)
+    private static double processCpuPercent() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuLoad() * 100;
+        }
+        return -1;
+    }
+
+    //지금까지의 GC 횟수 합계
+    private static long gcCount() {
+        long n = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            n += Math.max(0, gc.getCollectionCount());
+        }
+        return n;
+    }
+}
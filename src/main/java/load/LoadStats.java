@@ -0,0 +1,32 @@
+package load;
+
+import metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * LoadStats
+ * =================================================
+ * 모든 봇이 함께 기록하는 부하 테스트 통계
+ * (봇 스레드끼리 경합하지 않도록 LongAdder 사용)
+ */
+final class LoadStats {
+
+    //완료된 라운드 수 (테이블당 한 번)
+    final LongAdder rounds = new LongAdder();
+
+    //봇이 받은 전체 메시지 수
+    final LongAdder messages = new LongAdder();
+
+    //예기치 않게 끊긴 연결 수
+    final LongAdder errors = new LongAdder();
+
+    //칩 소진으로 다시 시작한 게임 수
+    final LongAdder restarts = new LongAdder();
+
+    //보고 주기 동안의 명령 응답 지연 (보고 후 total로 옮김)
+    final LatencyHistogram latency = new LatencyHistogram();
+
+    //전체 기간의 명령 응답 지연
+    final LatencyHistogram total = new LatencyHistogram();
+}
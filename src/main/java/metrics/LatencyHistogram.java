@@ -0,0 +1,93 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * LatencyHistogram
+ * =================================================
+ * [역할]
+ * - 지연 시간(ns)을 로그 구간별 개수로 모아 백분위(p50/p99/p999)를 계산
+ *
+ * [설계 의도]
+ * - 값을 모두 저장하지 않고 2의 거듭제곱 구간을 16칸씩 나눈 고정 크기 배열에 개수만 기록
+ *   (상대 오차 약 6% 이내, 메모리는 값 개수와 무관)
+ * - 여러 스레드가 잠금 없이 동시에 기록 (AtomicLongArray)
+ *   (서버 계측과 부하 테스트 도구가 함께 사용)
+ * - 보고 주기마다 drainTo()로 구간 히스토그램을 전체 히스토그램에 옮겨 담을 수 있음
+ */
+public final class LatencyHistogram {
+
+    //2의 거듭제곱 구간 하나를 나누는 칸 수 (2^SUB_BITS)
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    //기록 가능한 최대 지수 (2^40ns = 약 18분, 초과 값은 마지막 칸에 기록)
+    private static final int MAX_EXP = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_EXP + 1) * SUB_COUNT);
+
+    //지연 시간 하나 기록
+    public void record(long nanos) {
+        counts.incrementAndGet(index(Math.max(0, nanos)));
+    }
+
+    //값 -> 칸 번호
+    private static int index(long v) {
+        if (v < SUB_COUNT) return (int) v;
+
+        int exp = 63 - Long.numberOfLeadingZeros(v);
+        if (exp > MAX_EXP) return (MAX_EXP + 1) * SUB_COUNT - 1;
+
+        int sub = (int) (v >>> (exp - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exp - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    //칸 번호 -> 그 칸의 가장 큰 값
+    private static long upperBound(int index) {
+        if (index < SUB_COUNT) return index;
+
+        int exp = index / SUB_COUNT + SUB_BITS - 1;
+        long sub = index % SUB_COUNT;
+        long width = 1L << (exp - SUB_BITS);
+        return (1L << exp) + (sub + 1) * width - 1;
+    }
+
+    //기록된 값의 개수
+    public long count() {
+        long n = 0;
+        for (int i = 0; i < counts.length(); i++) n += counts.get(i);
+        return n;
+    }
+
+    /*
+     * percentile()
+     * -------------------------------------------------
+     * p(0~100) 백분위 값(ns)을 반환, 기록이 없으면 0
+     * 해당 칸의 상한값을 돌려주므로 실제 값보다 약간 클 수 있음
+     */
+    public long percentile(double p) {
+        long total = count();
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(total * p / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return upperBound(i);
+        }
+        return upperBound(counts.length() - 1);
+    }
+
+    //기록 모두 지우기
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) counts.set(i, 0);
+    }
+
+    //이 히스토그램의 개수를 target으로 옮기고 비움
+    public void drainTo(LatencyHistogram target) {
+        for (int i = 0; i < counts.length(); i++) {
+            long n = counts.getAndSet(i, 0);
+            if (n != 0) target.counts.addAndGet(i, n);
+        }
+    }
+}
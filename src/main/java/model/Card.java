@@ -1,7 +1,7 @@
 package model;
 
-import javax.swing.*;
-import java.awt.*;
+import java.util.HashMap;
+import java.util.Map;
 
 /*
  * Card
@@ -12,9 +12,44 @@ import java.awt.*;
  * [설계 의도]
  * - 카드의 상태(무늬, 숫자, 점수)를 하나의 객체로 관리
  * - GUI, 네트워크, 게임 로직과 분리된 순수 데이터 객체(Model)
+ *
+ * [카드 번호]
+ * - 52장의 카드는 번호(0~51) 하나로 표현 = 무늬 순서 * 13 + 숫자 순서
+ *   (무늬: spade, heart, diamond, club / 숫자: A, 2~10, J, Q, K)
+ * - 무늬/숫자/점수는 번호로 바로 찾는 표(배열)를 미리 만들어 둠
+ * - Card 객체는 번호마다 하나씩만 만들어 공유 (flyweight)
+ *   → 덱을 새로 섞거나 카드를 뽑을 때 객체를 새로 만들지 않음
  */
 public class Card {
 
+    //전체 카드 수
+    public static final int COUNT = 52;
+
+    //카드 무늬 / 숫자 (카드 번호 계산 순서)
+    private static final String[] SUITS = {"spade", "heart", "diamond", "club"};
+    private static final String[] RANKS = {"A","2","3","4","5","6","7","8","9","10","J","Q","K"};
+
+    //번호별 블랙잭 점수 (A=11, J/Q/K=10, 숫자카드는 해당 숫자)
+    private static final int[] VALUES = new int[COUNT];
+
+    //번호별 공유 Card 객체
+    private static final Card[] CARDS = new Card[COUNT];
+
+    //"suit-rank" 문자열 -> 카드 번호
+    private static final Map<String, Integer> IDS = new HashMap<>();
+
+    static {
+        for (int id = 0; id < COUNT; id++) {
+            int r = id % 13;
+            VALUES[id] = r == 0 ? 11 : Math.min(r + 1, 10);
+            CARDS[id] = new Card(id);
+            IDS.put(CARDS[id].name, id);
+        }
+    }
+
+    //카드 번호 (0~51)
+    private final int id;
+
     //카드 무늬 (spade, heart, diamond, club)
     private final String suit;
 
@@ -25,19 +60,40 @@ public class Card {
     //(A=11, J/Q/K=10, 숫자카드는 해당 숫자)
     private final int value;
 
+    //"suit-rank" 형태의 이름 (네트워크 전송, 이미지 경로용)
+    private final String name;
+
     /*
      * Card 생성자
      * ---------------------------------------------
-     * suit  : 카드 무늬
-     * rank  : 카드 숫자/문자
-     * value : 블랙잭 계산용 점수
+     * 번호마다 한 번만 호출됨 (외부에서는 Card.of() 사용)
      */
-    public Card(String suit, String rank, int value) {
-        this.suit = suit;
-        this.rank = rank;
-        this.value = value;
+    private Card(int id) {
+        this.id = id;
+        this.suit = SUITS[id / 13];
+        this.rank = RANKS[id % 13];
+        this.value = VALUES[id];
+        this.name = suit + "-" + rank;
     }
 
+    //카드 번호에 해당하는 공유 Card 객체 반환
+    public static Card of(int id) { return CARDS[id]; }
+
+    //카드 번호의 블랙잭 점수 (객체 없이 계산할 때 사용)
+    public static int valueOf(int id) { return VALUES[id]; }
+
+    //카드 번호가 Ace인지 확인
+    public static boolean isAce(int id) { return id % 13 == 0; }
+
+    //"suit-rank" 문자열의 카드 번호 반환 (알 수 없으면 -1)
+    public static int idOf(String name) {
+        Integer id = IDS.get(name);
+        return id == null ? -1 : id;
+    }
+
+    //카드 번호 반환
+    public int getId() { return id; }
+
     //카드 무늬 반환
     public String getSuit() { return suit; }
 
@@ -46,4 +102,10 @@ public class Card {
 
     //카드 점수 반환
     public int getValue() { return value; }
+
+    //"suit-rank" 이름 반환
+    public String getName() { return name; }
+
+    //Ace 여부
+    public boolean isAce() { return isAce(id); }
 }
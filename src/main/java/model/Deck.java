@@ -1,6 +1,7 @@
 package model;
 
-import java.util.*;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /*
  * Deck
@@ -11,54 +12,69 @@ import java.util.*;
  * [설계 의도]
  * - 카드 생성, 초기화, 셔플 기능을 한 객체에 캡슐화
  * - 게임 진행 중 카드 뽑기(draw) 기능 제공
+ * - 카드는 번호(int) 배열로 보관하고 다음에 뽑을 위치(cursor)만 이동
+ *   → draw()는 O(1), 라운드마다 shuffle()로 재사용하여 객체 생성 없음
  */
 public class Deck {
 
-    //현재 덱에 남아있는 카드 목록
-    private final List<Card> cards = new ArrayList<>();
+    //덱의 카드 번호 배열
+    private final int[] cards = new int[Card.COUNT];
+
+    //다음에 뽑을 카드 위치
+    private int cursor = 0;
+
+    //셔플에 사용하는 난수 생성기
+    private final RandomGenerator rng;
 
     /*
      * Deck 생성자
      * ---------------------------------------------
-     * 1) 4가지 무늬 × 13가지 카드 = 총 52장 생성
-     * 2) 블랙잭 규칙에 맞는 카드 점수 설정
-     * 3) 카드 순서를 무작위로 섞음
+     * 52장의 카드 번호를 채운 뒤 무작위로 섞음
      */
     public Deck() {
+        this(new SplittableRandom());
+    }
 
-        //카드 무늬 배열
-        String[] suits = {"spade", "heart", "diamond", "club"};
-
-        //카드 숫자/문자 배열
-        String[] ranks = {"A","2","3","4","5","6","7","8","9","10","J","Q","K"};
-
-        //모든 무늬와 숫자를 조합하여 카드 생성
-        for (String suit : suits) {
-            for (String r : ranks) {
-
-                //블랙잭 규칙에 따른 카드 점수 결정
-                int value = switch (r) {
-                    case "A" -> 11;                 //에이스는 기본 11점
-                    case "J", "Q", "K" -> 10;       //그림 카드는 10점
-                    default -> Integer.parseInt(r); //숫자 카드는 해당 숫자
-                };
+    //난수 생성기를 지정하는 생성자 (시뮬레이션 등에서 스레드별 난수 사용)
+    public Deck(RandomGenerator rng) {
+        this.rng = rng;
+        for (int i = 0; i < cards.length; i++) cards[i] = i;
+        shuffle();
+    }
 
-                //카드 객체 생성 후 덱에 추가
-                cards.add(new Card(suit, r, value));
-            }
+    /*
+     * shuffle()
+     * ---------------------------------------------
+     * 52장을 모두 되돌린 뒤 제자리에서 섞음 (Fisher-Yates)
+     * 새 배열이나 Card 객체를 만들지 않음
+     */
+    public void shuffle() {
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = cards[i];
+            cards[i] = cards[j];
+            cards[j] = t;
         }
-
-        //게임 시작 시 카드 순서를 무작위로 섞음
-        Collections.shuffle(cards);
+        cursor = 0;
     }
 
     /*
      * draw()
      * ---------------------------------------------
      * 덱의 가장 위에 있는 카드 한 장을 뽑아 반환
-     * (뽑은 카드는 덱에서 제거됨)
+     * (뽑은 카드는 덱에서 제외됨)
      */
     public Card draw() {
-        return cards.remove(0);
+        return Card.of(cards[cursor++]);
+    }
+
+    //카드 번호만 뽑기 (객체 없이 계산할 때 사용)
+    public int drawId() {
+        return cards[cursor++];
+    }
+
+    //남은 카드 수
+    public int remaining() {
+        return cards.length - cursor;
     }
 }
@@ -1,6 +1,7 @@
 package model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /*
@@ -12,25 +13,48 @@ import java.util.List;
  * [설계 의도]
  * - 카드 추가, 초기화, 점수 계산 로직을 한 클래스에 집중
  * - 블랙잭 규칙(Ace 처리)을 내부에서 책임지도록 설계
+ * - 카드를 추가할 때마다 합계와 Ace 개수를 갱신해 두어
+ *   점수 조회(getValue, isSoft, isBlackjack, isBust)는 모두 O(1)
  */
 public class Hand {
 
     //현재 손패에 포함된 카드 목록
     private final List<Card> cards = new ArrayList<>();
 
+    //외부에 돌려주는 읽기 전용 목록 (합계와 어긋나지 않도록 수정 불가)
+    private final List<Card> view = Collections.unmodifiableList(cards);
+
+    //Ace를 모두 1점으로 계산한 합계
+    private int hardTotal = 0;
+
+    //Ace 카드 개수
+    private int aces = 0;
+
     /*
      * 카드 한 장을 손패에 추가
+     * 합계와 Ace 개수도 함께 갱신
      */
     public void addCard(Card c) {
         cards.add(c);
+        if (c.isAce()) {
+            aces++;
+            hardTotal += 1;
+        } else {
+            hardTotal += c.getValue();
+        }
     }
 
     /*
-     * 현재 손패의 카드 목록 반환
+     * 현재 손패의 카드 목록 반환 (읽기 전용)
      * (카드 이미지 출력 등 GUI에서 사용)
      */
     public List<Card> getCards() {
-        return cards;
+        return view;
+    }
+
+    //손패의 카드 수
+    public int size() {
+        return cards.size();
     }
 
     /*
@@ -39,6 +63,8 @@ public class Hand {
      */
     public void clear() {
         cards.clear();
+        hardTotal = 0;
+        aces = 0;
     }
 
     /*
@@ -51,23 +77,26 @@ public class Hand {
      * - J, Q, K는 10점
      * - A(Ace)는 기본 11점으로 계산하되
      *   총합이 21을 초과하면 1점으로 조정
+     *
+     * Ace는 두 장 이상 11점이 될 수 없으므로
+     * (Ace를 모두 1점으로 본 합계) + (Ace 한 장을 11점으로 올릴 수 있으면 10)
      */
     public int getValue() {
-        int value = 0; //현재 점수 합
-        int ace = 0;   //Ace 카드 개수
+        return isSoft() ? hardTotal + 10 : hardTotal;
+    }
 
-        //모든 카드 점수 합산
-        for (Card c : cards) {
-            value += c.getValue();
-            if (c.getRank().equals("A")) ace++;
-        }
+    //Ace 한 장을 11점으로 계산하고 있는지 (소프트 핸드)
+    public boolean isSoft() {
+        return aces > 0 && hardTotal + 10 <= 21;
+    }
 
-        //점수가 21을 초과할 경우 에이스를 1로 조정
-        while (value > 21 && ace > 0) {
-            value -= 10; // Ace 하나를 11 → 1로 변경
-            ace--;
-        }
+    //처음 두 장으로 21을 만든 블랙잭인지
+    public boolean isBlackjack() {
+        return cards.size() == 2 && getValue() == 21;
+    }
 
-        return value;
+    //21을 초과했는지
+    public boolean isBust() {
+        return hardTotal > 21;
     }
 }
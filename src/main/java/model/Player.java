@@ -14,6 +14,9 @@ package model;
  */
 public class Player {
 
+    //새 플레이어의 시작 칩
+    public static final int STARTING_CHIPS = 100;
+
     //플레이어 식별용 이름
     private final String name;
 
@@ -21,7 +24,7 @@ public class Player {
     private final Hand hand = new Hand();
 
     //플레이어가 보유한 총 칩 수
-    private int chips = 100;     //기본 칩
+    private int chips = STARTING_CHIPS;     //기본 칩
 
     //현재 라운드에서 베팅한 칩 수
     private int betAmount = 0;   //라운드 베팅 칩
@@ -35,6 +38,16 @@ public class Player {
         this.name = name;
     }
 
+    /*
+     * 보유 칩을 지정하는 생성자
+     * ---------------------------------------------
+     * chips : 시작 칩 수
+     */
+    public Player(String name, int chips) {
+        this.name = name;
+        this.chips = chips;
+    }
+
     //플레이어 이름 반환
     public String getName() { return name; }
 
@@ -52,6 +65,11 @@ public class Player {
         this.betAmount = betAmount;
     }
 
+    //보유 칩 수 설정 (시뮬레이션, 저장된 잔액 복원 등에 사용)
+    public void setChips(int chips) {
+        this.chips = chips;
+    }
+
     //승리 시 칩 증가
     public void winChips(int amount) {
         this.chips += amount;
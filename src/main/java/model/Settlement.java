@@ -0,0 +1,47 @@
+package model;
+
+/*
+ * Settlement
+ * =================================================
+ * [역할]
+ * - 라운드 종료 시 플레이어 한 명이 돌려받을 칩을 계산하는 정산 규칙
+ *
+ * [설계 의도]
+ * - 서버 테이블과 시뮬레이터가 같은 규칙을 쓰도록 한 곳에 모음
+ * - 상태를 바꾸지 않는 순수 함수 (칩 지급은 호출하는 쪽에서 처리)
+ */
+public final class Settlement {
+
+    private Settlement() {}
+
+    /*
+     * payout()
+     * -------------------------------------------------
+     * bet         : 플레이어가 건 칩 (배팅 시 이미 차감됨)
+     * hand        : 플레이어 손패
+     * dealerValue : 딜러 점수
+     * 반환값       : 플레이어에게 돌려줄 칩 (0이면 패배)
+     */
+    public static int payout(int bet, Hand hand, int dealerValue) {
+
+        int v = hand.getValue();
+
+        //무승부: 베팅 금액 반환
+        if (v == dealerValue) return bet;
+
+        //플레이어 버스트
+        if (v > 21) return 0;
+
+        //딜러 버스트
+        if (dealerValue > 21) return bet * 2;
+
+        //블랙잭 (2장 21)
+        if (hand.isBlackjack()) return (int) (bet * 2.5);
+
+        //일반 승리
+        if (v > dealerValue) return bet * 2;
+
+        //패배
+        return 0;
+    }
+}
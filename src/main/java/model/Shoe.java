@@ -0,0 +1,112 @@
+package model;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/*
+ * Shoe
+ * =================================================
+ * [역할]
+ * - 여러 벌의 덱(보통 6~8벌)을 한꺼번에 담아 쓰는 카드 슈
+ * - 라운드가 바뀌어도 계속 사용하고, 컷 카드에 도달했을 때만 다시 섞음
+ *
+ * [설계 의도]
+ * - 카드는 번호(int) 배열로 보관하고 다음에 뽑을 위치(cursor)만 이동
+ * - 다시 섞을 때도 같은 배열을 제자리에서 섞어 객체를 새로 만들지 않음
+ * - penetration: 컷 카드 위치 (0.75면 전체의 75%를 쓰면 다음 라운드 전에 셔플)
+ */
+public class Shoe {
+
+    //덱 수
+    private final int decks;
+
+    //슈의 카드 번호 배열 (52 * decks)
+    private final int[] cards;
+
+    //컷 카드 위치 (이 위치에 도달하면 다음 라운드 전에 셔플)
+    private final int cutCard;
+
+    //다음에 뽑을 카드 위치
+    private int cursor = 0;
+
+    //셔플에 사용하는 난수 생성기
+    private final RandomGenerator rng;
+
+    /*
+     * Shoe 생성자
+     * ---------------------------------------------
+     * decks       : 덱 수
+     * penetration : 컷 카드 위치 비율 (0 초과 1 이하)
+     */
+    public Shoe(int decks, double penetration) {
+        this(decks, penetration, new SplittableRandom());
+    }
+
+    //난수 생성기를 지정하는 생성자 (시뮬레이션 등에서 스레드별 난수 사용)
+    public Shoe(int decks, double penetration, RandomGenerator rng) {
+        if (decks < 1) throw new IllegalArgumentException("덱 수는 1 이상이어야 합니다: " + decks);
+        if (penetration <= 0 || penetration > 1)
+            throw new IllegalArgumentException("penetration은 0 초과 1 이하여야 합니다: " + penetration);
+
+        this.decks = decks;
+        this.cards = new int[Card.COUNT * decks];
+        this.cutCard = (int) (cards.length * penetration);
+        this.rng = rng;
+
+        for (int i = 0; i < cards.length; i++) cards[i] = i % Card.COUNT;
+        shuffle();
+    }
+
+    /*
+     * shuffle()
+     * ---------------------------------------------
+     * 모든 카드를 되돌린 뒤 제자리에서 섞음 (Fisher-Yates)
+     * 새 배열이나 Card 객체를 만들지 않음
+     */
+    public void shuffle() {
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int t = cards[i];
+            cards[i] = cards[j];
+            cards[j] = t;
+        }
+        cursor = 0;
+    }
+
+    //컷 카드에 도달했는지 (라운드 시작 전에 확인하여 셔플)
+    public boolean needsShuffle() {
+        return cursor >= cutCard;
+    }
+
+    /*
+     * draw()
+     * ---------------------------------------------
+     * 다음 카드 한 장을 뽑아 반환
+     */
+    public Card draw() {
+        return Card.of(drawId());
+    }
+
+    /*
+     * drawId()
+     * ---------------------------------------------
+     * 카드 번호만 뽑기 (객체 없이 계산할 때 사용)
+     * 라운드 도중 슈가 완전히 바닥나면 예외적으로 바로 다시 섞음
+     */
+    public int drawId() {
+        if (cursor == cards.length) shuffle();
+        return cards[cursor++];
+    }
+
+    //덱 수
+    public int getDecks() { return decks; }
+
+    //전체 카드 수
+    public int size() { return cards.length; }
+
+    //지금까지 뽑은 카드 수 (슈 안에서의 위치)
+    public int position() { return cursor; }
+
+    //남은 카드 수
+    public int remaining() { return cards.length - cursor; }
+}
@@ -0,0 +1,265 @@
+package protocol;
+
+import model.Card;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+ * BinaryProtocol
+ * =================================================
+ * [역할]
+ * - 텍스트 프로토콜과 1:1로 대응하는 압축 바이너리 프로토콜 정의
+ * - 서버와 클라이언트가 함께 사용하는 인코딩/디코딩 규칙
+ *
+ * [프레임 구조]
+ * - [길이 2바이트(빅엔디언)][opcode 1바이트][payload]
+ *   길이는 opcode + payload의 바이트 수
+ * - 카드는 1바이트(0~51) = Card의 카드 번호
+ * - 자리(seat): 0=DEALER, 1=PLAYER1, 2=PLAYER2
+ *
+ * [협상]
+ * - 클라이언트가 텍스트로 "PROTO:BIN" 한 줄을 보내면 그 직후부터 바이너리로 전송
+ * - 서버는 텍스트로 "PROTO:BIN"을 응답한 뒤부터 바이너리로 전송
+ * - 협상하지 않은 클라이언트는 기존 텍스트 프로토콜 그대로 사용 (디버깅용)
+ */
+public final class BinaryProtocol {
+
+    //협상 메시지 (텍스트로 주고받음)
+    public static final String HANDSHAKE = "PROTO:BIN";
+
+    //프레임 하나의 최대 길이 (opcode + payload)
+    public static final int MAX_FRAME = 0xFFFF;
+
+    //텍스트 payload의 최대 글자 수 (UTF-8 최대 3바이트 기준으로 MAX_FRAME 이내)
+    private static final int MAX_TEXT_CHARS = 16000;
+
+    //----- 공통 -----
+    public static final byte OP_TEXT = 0x01;        //그 외 텍스트 한 줄 (UTF-8)
+    public static final byte OP_CHAT = 0x02;        //CHAT:내용
+
+    //----- 서버 -> 클라이언트 -----
+    public static final byte OP_WAITING = 0x10;     //WAITING:내용
+    public static final byte OP_RESET = 0x11;       //GAME:RESET
+    public static final byte OP_CARD = 0x12;        //GAME:CARD:역할:카드들 -> [seat][개수][카드...]
+    public static final byte OP_TURN = 0x13;        //GAME:TURN:역할 -> [seat]
+    public static final byte OP_CHIPS = 0x14;       //CHIPS:Pn:칩 -> [seat][int32]
+    public static final byte OP_BETTING = 0x15;     //INFO:BETTING
+    public static final byte OP_CARD_ADD = 0x16;    //GAME:CARD_ADD:역할:카드 -> [seat][카드]
+
+    //----- 클라이언트 -> 서버 -----
+    public static final byte OP_MODE = 0x20;        //MODE:역할[:테이블ID[:계정]] (UTF-8)
+    public static final byte OP_BET = 0x21;         //BET:금액 -> [int32], ALL은 BET_ALL
+    public static final byte OP_BET_DONE = 0x22;    //BET:DONE
+    public static final byte OP_HIT = 0x23;         //GAME:HIT
+    public static final byte OP_STAND = 0x24;       //GAME:STAND
+
+    //BET:ALL을 나타내는 금액 값
+    public static final int BET_ALL = -1;
+
+    //자리 번호별 역할 이름
+    private static final String[] SEATS = {"DEALER", "PLAYER1", "PLAYER2"};
+
+    private BinaryProtocol() {}
+
+    /*
+     * cardId()
+     * -------------------------------------------------
+     * "suit-rank" 문자열을 카드 번호(0~51)로 변환
+     * 알 수 없는 카드면 -1
+     */
+    public static int cardId(String name) {
+        return Card.idOf(name);
+    }
+
+    //카드 번호를 "suit-rank" 문자열로 변환 (미리 만들어 둔 문자열 재사용)
+    public static String cardName(int id) {
+        return Card.of(id).getName();
+    }
+
+    //역할 이름을 자리 번호로 변환 (알 수 없으면 -1)
+    public static int seat(String role) {
+        return indexOf(SEATS, role);
+    }
+
+    //자리 번호를 역할 이름으로 변환
+    public static String role(int seat) {
+        return SEATS[seat];
+    }
+
+    /*
+     * encode()
+     * -------------------------------------------------
+     * 텍스트 프로토콜 한 줄을 바이너리 프레임(길이 포함)으로 변환
+     * 전용 opcode가 없는 메시지는 OP_TEXT로 그대로 담음
+     */
+    public static byte[] encode(String line) {
+
+        if (line.startsWith("CHAT:")) return text(OP_CHAT, line.substring(5));
+        if (line.startsWith("WAITING:")) return text(OP_WAITING, line.substring(8));
+        if (line.startsWith("MODE:")) return text(OP_MODE, line.substring(5));
+
+        if (line.equals("GAME:RESET")) return frame(OP_RESET, 0);
+        if (line.equals("INFO:BETTING")) return frame(OP_BETTING, 0);
+        if (line.equals("BET:DONE")) return frame(OP_BET_DONE, 0);
+        if (line.equals("GAME:HIT")) return frame(OP_HIT, 0);
+        if (line.equals("GAME:STAND")) return frame(OP_STAND, 0);
+
+        if (line.startsWith("GAME:CARD_ADD:")) {
+            byte[] f = encodeCardAdd(line.substring(14));
+            if (f != null) return f;
+        }
+        else if (line.startsWith("GAME:CARD:")) {
+            byte[] f = encodeCards(line.substring(10));
+            if (f != null) return f;
+        }
+        else if (line.startsWith("GAME:TURN:")) {
+            int seat = seat(line.substring(10));
+            if (seat >= 0) {
+                byte[] f = frame(OP_TURN, 1);
+                f[3] = (byte) seat;
+                return f;
+            }
+        }
+        else if (line.startsWith("CHIPS:P1:") || line.startsWith("CHIPS:P2:")) {
+            try {
+                int chips = Integer.parseInt(line.substring(9));
+                byte[] f = frame(OP_CHIPS, 5);
+                f[3] = (byte) (line.charAt(7) - '0');
+                putInt(f, 4, chips);
+                return f;
+            } catch (NumberFormatException ignored) {}
+        }
+        else if (line.startsWith("BET:")) {
+            String amount = line.substring(4);
+            try {
+                int v = amount.equals("ALL") ? BET_ALL : Integer.parseInt(amount);
+                //음수 금액은 BET_ALL과 구분할 수 없으므로 텍스트 그대로 보냄 (서버가 거부)
+                if (v >= 0 || amount.equals("ALL")) {
+                    byte[] f = frame(OP_BET, 4);
+                    putInt(f, 3, v);
+                    return f;
+                }
+            } catch (NumberFormatException ignored) {}
+        }
+
+        return text(OP_TEXT, line);
+    }
+
+    //"역할:카드,카드" 부분을 OP_CARD 프레임으로 변환 (변환 불가 시 null)
+    private static byte[] encodeCards(String body) {
+        int colon = body.indexOf(':');
+        if (colon < 0) return null;
+
+        int seat = seat(body.substring(0, colon));
+        String[] cards = body.substring(colon + 1).split(",");
+        if (seat < 0 || cards.length > 255) return null;
+
+        byte[] f = frame(OP_CARD, 2 + cards.length);
+        f[3] = (byte) seat;
+        f[4] = (byte) cards.length;
+        for (int i = 0; i < cards.length; i++) {
+            int id = cardId(cards[i]);
+            if (id < 0) return null;
+            f[5 + i] = (byte) id;
+        }
+        return f;
+    }
+
+    //"역할:카드" 부분을 OP_CARD_ADD 프레임으로 변환 (변환 불가 시 null)
+    private static byte[] encodeCardAdd(String body) {
+        int colon = body.indexOf(':');
+        if (colon < 0) return null;
+
+        int seat = seat(body.substring(0, colon));
+        int id = cardId(body.substring(colon + 1));
+        if (seat < 0 || id < 0) return null;
+
+        byte[] f = frame(OP_CARD_ADD, 2);
+        f[3] = (byte) seat;
+        f[4] = (byte) id;
+        return f;
+    }
+
+    /*
+     * decode()
+     * -------------------------------------------------
+     * 프레임 본문(opcode + payload)을 텍스트 프로토콜 한 줄로 복원
+     * buf[off]가 opcode, len은 opcode를 포함한 길이
+     */
+    public static String decode(byte[] buf, int off, int len) {
+        byte op = buf[off];
+        int p = off + 1;
+
+        switch (op) {
+            case OP_CHAT: return "CHAT:" + utf8(buf, p, len - 1);
+            case OP_WAITING: return "WAITING:" + utf8(buf, p, len - 1);
+            case OP_MODE: return "MODE:" + utf8(buf, p, len - 1);
+            case OP_RESET: return "GAME:RESET";
+            case OP_BETTING: return "INFO:BETTING";
+            case OP_BET_DONE: return "BET:DONE";
+            case OP_HIT: return "GAME:HIT";
+            case OP_STAND: return "GAME:STAND";
+            case OP_TURN: return "GAME:TURN:" + role(buf[p]);
+            case OP_CHIPS: return "CHIPS:P" + buf[p] + ":" + getInt(buf, p + 1);
+            case OP_BET: {
+                int v = getInt(buf, p);
+                return "BET:" + (v == BET_ALL ? "ALL" : String.valueOf(v));
+            }
+            case OP_CARD_ADD: return "GAME:CARD_ADD:" + role(buf[p]) + ":" + cardName(buf[p + 1]);
+            case OP_CARD: {
+                StringBuilder sb = new StringBuilder(16 + buf[p + 1] * 10);
+                sb.append("GAME:CARD:").append(role(buf[p])).append(':');
+                int count = buf[p + 1] & 0xFF;
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) sb.append(',');
+                    sb.append(cardName(buf[p + 2 + i]));
+                }
+                return sb.toString();
+            }
+            default: return utf8(buf, p, len - 1);
+        }
+    }
+
+    //UTF-8 문자열 payload를 가진 프레임 생성
+    private static byte[] text(byte op, String s) {
+        if (s.length() > MAX_TEXT_CHARS) s = s.substring(0, MAX_TEXT_CHARS);
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        byte[] f = frame(op, b.length);
+        System.arraycopy(b, 0, f, 3, b.length);
+        return f;
+    }
+
+    //길이와 opcode가 채워진 프레임 생성 (payload는 호출자가 채움)
+    private static byte[] frame(byte op, int payloadLen) {
+        int len = payloadLen + 1;
+        byte[] f = new byte[2 + len];
+        f[0] = (byte) (len >>> 8);
+        f[1] = (byte) len;
+        f[2] = op;
+        return f;
+    }
+
+    //빅엔디언 int32 읽기
+    public static int getInt(byte[] b, int off) {
+        return (b[off] & 0xFF) << 24 | (b[off + 1] & 0xFF) << 16
+                | (b[off + 2] & 0xFF) << 8 | (b[off + 3] & 0xFF);
+    }
+
+    //빅엔디언 int32 쓰기
+    private static void putInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    //UTF-8 바이트를 문자열로 변환
+    public static String utf8(byte[] b, int off, int len) {
+        return new String(b, off, len, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(String[] arr, String s) {
+        for (int i = 0; i < arr.length; i++) if (arr[i].equals(s)) return i;
+        return -1;
+    }
+}
@@ -0,0 +1,113 @@
+package protocol;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+ * WireInput
+ * =================================================
+ * [역할]
+ * - 소켓 입력 스트림에서 텍스트 한 줄 또는 바이너리 프레임 하나를 읽음
+ *
+ * [설계 의도]
+ * - 협상 이후 같은 스트림이 텍스트 -> 바이너리로 바뀌므로
+ *   문자 단위로 미리 읽어 두는 BufferedReader 대신 바이트 단위로 직접 처리
+ * - 읽기 버퍼를 재사용하여 메시지마다 배열을 새로 만들지 않음
+ */
+public final class WireInput {
+
+    //텍스트 한 줄의 최대 바이트 수 (NIO 모드와 같은 한도, 초과하면 비정상 상대로 보고 연결 종료)
+    public static final int MAX_LINE = 8192;
+
+    private final InputStream in;
+
+    //바이너리 모드 여부
+    private boolean binary = false;
+
+    //한 줄 또는 한 프레임을 담는 버퍼 (재사용)
+    private byte[] buf = new byte[256];
+
+    //in은 BufferedInputStream처럼 버퍼링된 스트림이어야 함
+    public WireInput(InputStream in) {
+        this.in = in;
+    }
+
+    //이후 입력을 바이너리 프레임으로 해석
+    public void switchToBinary() {
+        binary = true;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    //readFrame()이 채운 버퍼 (buf[0]이 opcode)
+    public byte[] frameBuffer() {
+        return buf;
+    }
+
+    /*
+     * next()
+     * -------------------------------------------------
+     * 현재 모드에 맞게 메시지 하나를 읽어 텍스트 한 줄로 반환
+     * 스트림이 끝나면 null
+     */
+    public String next() throws IOException {
+        if (!binary) return readLine();
+
+        int len = readFrame();
+        return len < 0 ? null : BinaryProtocol.decode(buf, 0, len);
+    }
+
+    /*
+     * readLine()
+     * -------------------------------------------------
+     * '\n'까지 읽어 UTF-8 문자열로 반환 ('\r\n'도 허용)
+     * 스트림이 끝나면 null, 줄이 MAX_LINE을 넘으면 IOException
+     */
+    public String readLine() throws IOException {
+        int len = 0;
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                if (len == 0) return null;
+                break;
+            }
+            if (len == buf.length) {
+                if (len >= MAX_LINE) throw new IOException("한 줄이 너무 김 (최대 " + MAX_LINE + "바이트)");
+                buf = Arrays.copyOf(buf, Math.min(len * 2, MAX_LINE));
+            }
+            buf[len++] = (byte) b;
+        }
+        if (len > 0 && buf[len - 1] == '\r') len--;
+        return new String(buf, 0, len, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * readFrame()
+     * -------------------------------------------------
+     * 바이너리 프레임 하나를 읽어 frameBuffer()에 담고 길이(opcode 포함)를 반환
+     * 스트림이 끝나면 -1
+     */
+    public int readFrame() throws IOException {
+        int hi = in.read();
+        if (hi < 0) return -1;
+        int lo = in.read();
+        if (lo < 0) return -1;
+
+        int len = hi << 8 | lo;
+        if (len == 0) throw new IOException("빈 프레임");
+        if (len > buf.length) buf = new byte[Math.max(len, buf.length * 2)];
+
+        int read = 0;
+        while (read < len) {
+            int n = in.read(buf, read, len - read);
+            if (n < 0) throw new EOFException();
+            read += n;
+        }
+        return len;
+    }
+}
@@ -1,9 +1,15 @@
 package server;
 
-import model.*;
+import history.RoundHistory;
+import ledger.Ledger;
+
+import javax.management.ObjectName;
 import java.io.*;
+import java.lang.management.ManagementFactory;
 import java.net.*;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
 
 /*
  * BlackjackServer
@@ -11,50 +17,111 @@ import java.util.*;
  * [역할]
  * - 블랙잭 게임의 서버 역할
  * - 클라이언트 접속 관리
- * - 게임 라운드 진행, 턴 제어, 카드 분배, 승패 판정 담당
+ * - 테이블 목록(레지스트리) 관리
  *
  * [서버 구조]
  * - ServerSocket으로 클라이언트 접속 대기
  * - 각 클라이언트는 ClientHandler 스레드로 처리
- * - 모든 게임 로직은 서버에서 단일 기준으로 관리
+ *   (스레드 생성 방식은 ThreadFactory로 교체 가능: 플랫폼 / 가상 스레드)
+ *   (--nio 옵션 사용 시 NioServer의 셀렉터 이벤트 루프로 처리)
+ * - 게임 진행의 지연(카드 분배, 딜러 카드, 다음 라운드)은
+ *   모든 테이블이 공유하는 소수의 타이머 스레드에 예약
+ * - 테이블 명령은 테이블별 메일박스에 넣고, 공용 작업자 풀이 테이블마다 한 번에 하나씩 실행
+ * - 클라이언트는 테이블 ID로 테이블에 착석
+ * - 게임 로직은 테이블(Table)마다 독립적으로 관리
+ * - 플레이어 칩 잔액은 원장(Ledger)에 저장되어 재시작/재접속 후에도 유지
+ * - 모든 테이블의 라운드 진행은 라운드 기록(RoundHistory)에 남김 (history.RoundReplay로 확인)
+ * - 연결이 모두 끊긴 테이블은 재접속(RESUME)을 기다리며 잠시 유지한 뒤 정리
+ * - 계측 값(ServerMetrics)은 JMX(bj:type=ServerMetrics)와
+ *   로컬 HTTP 엔드포인트(http://127.0.0.1:5556/metrics)로 조회
  */
 public class BlackjackServer {
 
     //서버 포트 번호
     private static final int PORT = 5555;
 
-    //접속 중인 클라이언트 목록
-    private final List<ClientHandler> clients = Collections.synchronizedList(new ArrayList<>());
+    //MODE 메시지에 테이블 ID가 없을 때 사용할 기본 테이블
+    static final String DEFAULT_TABLE = "1";
+
+    //운영 중인 테이블 목록 (테이블 ID -> 테이블)
+    private final Map<String, Table> tables = new ConcurrentHashMap<>();
+
+    //접속 중인 모든 연결 (연결 번호 -> 연결, 테이블 착석 여부와 무관)
+    private final Map<Long, Connection> connections = new ConcurrentHashMap<>();
+
+    //타이머 스레드 수 (-Dbj.timerThreads=N)
+    private static final int TIMER_THREADS = Integer.getInteger("bj.timerThreads", 2);
+
+    //모든 테이블이 공유하는 지연 진행용 스케줄러
+    private final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+    //테이블 작업자 스레드 수 (-Dbj.tableThreads=N, 기본 CPU 코어 수)
+    private static final int TABLE_THREADS =
+            Integer.getInteger("bj.tableThreads", Runtime.getRuntime().availableProcessors());
 
-    //PLAYER1, PLAYER2 객체
-    private Player p1, p2;
+    //테이블 메일박스를 실행하는 공용 작업자 풀
+    private final ForkJoinPool tableWorkers = createTableWorkers();
 
-    //카드 덱
-    private Deck deck;
+    //계측 엔드포인트 포트 (-Dbj.metricsPort=N, 0이면 사용 안 함)
+    private static final int METRICS_PORT = Integer.getInteger("bj.metricsPort", 5556);
 
-    //딜러의 손패
-    private Hand dealerHand;
+    //서버 계측
+    private final ServerMetrics metrics = new ServerMetrics(this);
 
-    //현재 라운드 진행 여부
-    private boolean roundInProgress = false;
+    //원장 저장 위치 (-Dbj.ledgerDir=경로, -Dbj.ledger=off 이면 저장하지 않음)
+    private static final String LEDGER_DIR = System.getProperty("bj.ledgerDir", "data/ledger");
 
-    //각 플레이어의 배팅 완료 여부
-    //두 값이 모두 true가 되면 카드 분배 시작
-    private boolean p1Done = false;
-    private boolean p2Done = false;
+    //플레이어 칩 원장
+    private final Ledger ledger = openLedger();
+
+    //라운드 기록 위치 (-Dbj.historyDir=경로, -Dbj.history=off 이면 기록하지 않음)
+    private static final String HISTORY_DIR = System.getProperty("bj.historyDir", "data/history");
+
+    //라운드 기록
+    private final RoundHistory history = openHistory();
+
+    //빈 테이블을 재접속에 대비해 유지하는 시간(ms) (-Dbj.resumeGraceMs=N, 0이면 바로 정리)
+    private static final long RESUME_GRACE_MS = Long.getLong("bj.resumeGraceMs", 30_000);
 
     //서버 시작 지점
+    //--nio             : 셀렉터 기반 논블로킹 모드로 실행
+    //--io-threads=N    : 논블로킹 모드의 I/O 스레드 수 (기본 1)
+    //--virtual         : 각 ClientHandler를 가상 스레드로 실행
     public static void main(String[] args) {
-        new BlackjackServer().startServer();
+        boolean nio = false;
+        boolean virtual = false;
+        int ioThreads = 1;
+
+        for (String a : args) {
+            if (a.equals("--nio")) nio = true;
+            else if (a.equals("--virtual")) virtual = true;
+            else if (a.startsWith("--io-threads=")) ioThreads = Integer.parseInt(a.substring(13));
+        }
+
+        BlackjackServer server = new BlackjackServer();
+        if (nio) server.startNioServer(ioThreads);
+        else if (virtual) server.startServer(Thread.ofVirtual().name("client-", 0).factory());
+        else server.startServer();
     }
 
     /*
      * startServer()
      * -------------------------------------------------
-     * ServerSocket 생성 후 클라이언트 접속을 지속적으로 대기
+     * 클라이언트마다 플랫폼 스레드를 하나씩 사용하는 기본 모드
      */
     public void startServer() {
+        startServer(Thread.ofPlatform().name("client-", 0).factory());
+    }
+
+    /*
+     * startServer(ThreadFactory)
+     * -------------------------------------------------
+     * ServerSocket 생성 후 클라이언트 접속을 지속적으로 대기
+     * 각 ClientHandler는 전달받은 ThreadFactory가 만든 스레드에서 실행
+     */
+    public void startServer(ThreadFactory threadFactory) {
         System.out.println("==== Blackjack Server 실행됨 ====");
+        startMetrics();
 
         try (ServerSocket server = new ServerSocket(PORT)) {
             while (true) {
@@ -62,11 +129,10 @@ public class BlackjackServer {
                 Socket socket = server.accept();
 
                 //클라이언트 전용 핸들러 생성
-                ClientHandler ch = new ClientHandler(socket);
-                clients.add(ch);
+                ClientHandler ch = new ClientHandler(this, socket, threadFactory);
 
                 //각 클라이언트를 개별 스레드로 처리
-                new Thread(ch).start();
+                threadFactory.newThread(ch).start();
             }
         } catch (IOException e) {
             System.out.println("서버 오류: " + e.getMessage());
@@ -74,318 +140,216 @@ public class BlackjackServer {
     }
 
     /*
-     * broadcast()
+     * startNioServer()
      * -------------------------------------------------
-     * 모든 클라이언트에게 메시지를 전송
+     * 셀렉터 기반 논블로킹 모드로 서버 시작
+     * 소수의 I/O 스레드가 모든 연결을 처리
      */
-    private void broadcast(String msg) {
-        synchronized (clients) {
-            for (ClientHandler c : clients) c.send(msg);
+    public void startNioServer(int ioThreads) {
+        System.out.println("==== Blackjack Server 실행됨 (NIO, I/O 스레드 " + ioThreads + "개) ====");
+        startMetrics();
+
+        try {
+            new NioServer(this, PORT, ioThreads).start();
+        } catch (IOException e) {
+            System.out.println("서버 오류: " + e.getMessage());
         }
     }
 
     /*
-     * startNewRound()
+     * startMetrics()
      * -------------------------------------------------
-     * 새 라운드 초기화
-     * - 상태 변수 초기화
-     * - 카드 덱 재생성
-     * - 손패 및 베팅 초기화
+     * 계측 값을 JMX에 등록하고 HTTP 엔드포인트 시작
+     * 초당 값 계산은 타이머 스케줄러에서 1초마다 수행
+     * 계측 노출에 실패해도 게임 서버는 계속 실행
      */
-    private void startNewRound() {
-
-        roundInProgress = false;
-
-        p1Done = false;
-        p2Done = false;
-
-        deck = new Deck();
-        dealerHand = new Hand();
-
-        p1.getHand().clear();
-        p2.getHand().clear();
-
-        p1.resetBet();
-        p2.resetBet();
+    private void startMetrics() {
+        scheduler.scheduleAtFixedRate(metrics::sample, 1, 1, TimeUnit.SECONDS);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(metrics, new ObjectName("bj:type=ServerMetrics"));
+        } catch (Exception e) {
+            System.out.println("JMX 등록 실패: " + e.getMessage());
+        }
 
-        broadcast("GAME:RESET");
-        broadcast("CHAT:[SYSTEM] 새로운 라운드를 시작합니다. 배팅을 해주세요.");
-        broadcast("INFO:BETTING");
+        if (METRICS_PORT > 0) {
+            try {
+                MetricsEndpoint.start(metrics, METRICS_PORT);
+                System.out.println("계측 엔드포인트: http://127.0.0.1:" + METRICS_PORT + "/metrics");
+            } catch (IOException e) {
+                System.out.println("계측 엔드포인트 시작 실패: " + e.getMessage());
+            }
+        }
     }
 
     /*
-     * dealInitialCards()
+     * createScheduler()
      * -------------------------------------------------
-     * 초기 카드 분배
-     * - 각 플레이어 2장
-     * - 딜러 2장 (1장은 공개)
-     * - PLAYER1부터 턴 시작
+     * 테이블 타임라인이 공유하는 스케줄러 생성
+     * 취소된 예약은 큐에서 바로 제거하여 닫힌 테이블이 메모리를 잡지 않도록 함
      */
-    private void dealInitialCards() {
-        roundInProgress = true;
-
-        p1.getHand().addCard(deck.draw());
-        p1.getHand().addCard(deck.draw());
-
-        p2.getHand().addCard(deck.draw());
-        p2.getHand().addCard(deck.draw());
-
-        dealerHand.addCard(deck.draw());
-        dealerHand.addCard(deck.draw());
-
-        broadcast("GAME:CARD:PLAYER1:" + formatCards(p1.getHand()));
-        broadcast("GAME:CARD:PLAYER2:" + formatCards(p2.getHand()));
-
-        //딜러의 첫 카드만 공개
-        Card open = dealerHand.getCards().get(0);
-        broadcast("GAME:CARD:DEALER:" + open.getSuit() + "-" + open.getRank());
-
-        broadcast("GAME:TURN:PLAYER1");
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        ScheduledThreadPoolExecutor s = new ScheduledThreadPoolExecutor(
+                Math.max(1, TIMER_THREADS),
+                Thread.ofPlatform().name("table-timer-", 0).daemon(true).factory());
+        s.setRemoveOnCancelPolicy(true);
+        return s;
     }
 
     /*
-     * formatCards()
+     * openLedger()
      * -------------------------------------------------
-     * Hand 객체를 "suit-rank,suit-rank" 문자열로 변환
-     * 클라이언트 카드 표시용
+     * 원장을 열어 저장된 잔액을 복원
+     * 종료 시 남은 기록을 디스크에 반영하도록 종료 훅 등록
+     * 열 수 없으면 메모리 전용 원장으로 계속 실행
      */
-    private String formatCards(Hand h) {
-        List<String> list = new ArrayList<>();
-        for (Card c : h.getCards()) list.add(c.getSuit() + "-" + c.getRank());
-        return String.join(",", list);
+    private static Ledger openLedger() {
+        if ("off".equalsIgnoreCase(System.getProperty("bj.ledger"))) return Ledger.inMemory();
+
+        try {
+            Ledger l = Ledger.open(Path.of(LEDGER_DIR));
+            Runtime.getRuntime().addShutdownHook(new Thread(l::close, "ledger-shutdown"));
+            System.out.println("원장 복원: 계정 " + l.accountCount() + "개 (" + LEDGER_DIR + ")");
+            return l;
+        } catch (IOException e) {
+            System.out.println("원장 열기 실패, 저장하지 않고 실행: " + e.getMessage());
+            return Ledger.inMemory();
+        }
     }
 
     /*
-     * updateChips()
+     * openHistory()
      * -------------------------------------------------
-     * 모든 클라이언트에 현재 칩 정보 전송
+     * 라운드 기록 파일을 열어 이어서 기록
+     * 종료 시 남은 기록을 쓰도록 종료 훅 등록, 열 수 없으면 기록 없이 실행
      */
-    private void updateChips() {
-        broadcast("CHIPS:P1:" + p1.getChips());
-        broadcast("CHIPS:P2:" + p2.getChips());
+    private static RoundHistory openHistory() {
+        if ("off".equalsIgnoreCase(System.getProperty("bj.history"))) return RoundHistory.disabled();
+
+        try {
+            RoundHistory h = RoundHistory.open(Path.of(HISTORY_DIR));
+            Runtime.getRuntime().addShutdownHook(new Thread(h::close, "history-shutdown"));
+            return h;
+        } catch (IOException e) {
+            System.out.println("라운드 기록 열기 실패, 기록하지 않고 실행: " + e.getMessage());
+            return RoundHistory.disabled();
+        }
     }
 
     /*
-     * dealerTurn()
+     * createTableWorkers()
      * -------------------------------------------------
-     * 딜러의 턴 진행
-     * - 점수가 17 미만이면 카드 추가
-     * - 종료 후 승패 판정
+     * 테이블 메일박스 작업자 풀 생성
+     * 작업은 잘게 나뉘지 않는 짧은 명령이므로 FIFO(asyncMode)로 처리
      */
-    private void dealerTurn() {
-
-        broadcast("GAME:TURN:DEALER");
-
-        broadcast("CHAT:[SYSTEM] 딜러 턴 시작.");
-        broadcast("GAME:CARD:DEALER:" + formatCards(dealerHand));
+    private static ForkJoinPool createTableWorkers() {
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName("table-worker-" + t.getPoolIndex());
+            t.setDaemon(true);
+            return t;
+        };
+        return new ForkJoinPool(Math.max(1, TABLE_THREADS), factory, null, true);
+    }
 
-        while (dealerHand.getValue() < 17) {
-            try { Thread.sleep(900); } catch (Exception ignored) {}
-            dealerHand.addCard(deck.draw());
-            broadcast("GAME:CARD:DEALER:" + formatCards(dealerHand));
-        }
+    //연결 등록 (연결 직후)
+    void register(Connection c) {
+        connections.put(c.id, c);
+    }
 
-        evaluateResults();
+    //연결 등록 해제 (연결 종료 시)
+    void unregister(Connection c) {
+        connections.remove(c.id);
     }
 
     /*
-     * evaluateResults()
+     * joinTable()
      * -------------------------------------------------
-     * 딜러와 각 플레이어의 점수를 비교하여 결과 판정
+     * 테이블 ID에 해당하는 테이블에 클라이언트를 착석시킴
+     * 테이블이 없으면 새로 생성
      */
-    private void evaluateResults() {
-
-        int d = dealerHand.getValue();
-        int v1 = p1.getHand().getValue();
-        int v2 = p2.getHand().getValue();
-
-        broadcast("CHAT:[RESULT] 딜러(" + d +
-                ") | P1(" + v1 + ") | P2(" + v2 + ")");
-
-        applyChipResults(p1, v1, d);
-        applyChipResults(p2, v2, d);
-
-        updateChips();
-
-        //칩이 0인 플레이어가 있으면 게임 종료
-        if (p1.getChips() <= 0 || p2.getChips() <= 0) {
-            broadcast("CHAT:[SYSTEM] 누군가 칩이 0개라 게임 종료.");
-            return;
-        }
-
-        try { Thread.sleep(6000); } catch (Exception ignored) {}
-
-        startNewRound();
+    Table joinTable(String tableId, Connection ch) {
+        return tables.compute(tableId, (id, t) -> {
+            if (t == null) t = new Table(id, tableWorkers, scheduler, metrics, ledger, history);
+            t.addClient(ch);
+            return t;
+        });
     }
 
     /*
-     * applyChipResults()
+     * resumeTable()
      * -------------------------------------------------
-     * 단일 플레이어의 승패 결과에 따른 칩 계산
+     * 세션이 맞으면 기존 테이블에 클라이언트를 다시 착석시킴
+     * 테이블이 없거나(정리됨) 세션이 맞지 않으면 null (새 테이블은 만들지 않음)
      */
-    private void applyChipResults(Player p, int v, int d) {
-
-        int bet = p.getBetAmount();
-
-        //무승부: 베팅 금액 반환
-        if (v == d) {
-            p.winChips(bet);
-            return;
-        }
-
-        //플레이어 버스트
-        if (v > 21) return;
-
-        //딜러 버스트
-        if (d > 21) {
-            p.winChips(bet * 2);
-            return;
-        }
-
-        //블랙잭 (2장 21)
-        if (v == 21 && p.getHand().getCards().size() == 2) {
-            p.winChips((int)(bet * 2.5));
-            return;
-        }
-
-        //일반 승리
-        if (v > d) {
-            p.winChips(bet * 2);
-        }
+    Table resumeTable(String tableId, String role, String secret, Connection ch) {
+        Table[] resumed = new Table[1];
+        tables.computeIfPresent(tableId, (id, t) -> {
+            if (t.checkSession(role, secret)) {
+                t.addClient(ch);
+                resumed[0] = t;
+            }
+            return t;
+        });
+        return resumed[0];
     }
 
     /*
-     * ClientHandler
-     * =================================================
-     * 각 클라이언트와의 통신을 담당하는 내부 클래스
-     * Runnable을 구현하여 스레드로 실행됨
+     * leaveTable()
+     * -------------------------------------------------
+     * 테이블에서 클라이언트를 제거
+     * 마지막 클라이언트가 떠나면 RESUME_GRACE_MS 뒤에도 비어 있을 때 테이블을 목록에서 제거
+     * (모두 잠깐 끊겼다 돌아와도 진행 중인 라운드가 남아 있도록)
      */
-    private class ClientHandler implements Runnable {
-
-        private Socket socket;
-        private BufferedReader in;
-        private BufferedWriter out;
-
-        //클라이언트 역할
-        private String role = "UNKNOWN";
-
-        ClientHandler(Socket socket) { this.socket = socket; }
-
-        @Override
-        public void run() {
-            try {
-                in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
-                out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), "UTF-8"));
-
-                send("WAITING:상대 플레이어 연결을 기다리는 중...");
-
-                String line;
-                while ((line = in.readLine()) != null) {
-
-                    //역할 설정 메시지
-                    if (line.startsWith("MODE:")) {
-                        role = line.substring(5);
-
-                        if (role.equals("PLAYER1")) p1 = new Player("PLAYER1");
-                        if (role.equals("PLAYER2")) p2 = new Player("PLAYER2");
-
-                        if (p1 != null && p2 != null) {
-                            broadcast("CHAT:[SYSTEM] 두 플레이어 연결됨. 배팅 시작!");
-                            startNewRound();
-                        }
-                    }
-                    //채팅 메시지
-                    else if (line.startsWith("CHAT:")) {
-                        broadcast("CHAT:[" + role + "] " + line.substring(5));
-                    }
-                    //배팅 완료 신호
-                    else if (line.equals("BET:DONE")) {
-                        handleBetDone(role);
-                    }
-                    //배팅 금액 처리
-                    else if (line.startsWith("BET:")) {
-                        handleBet(role, line.substring(4));
-                    }
-                    //Hit 요청
-                    else if (line.startsWith("GAME:HIT")) {
-                        handleHit(role);
-                    }
-                    //Stand 요청
-                    else if (line.startsWith("GAME:STAND")) {
-                        handleStand(role);
-                    }
-                }
-            } catch (IOException e) {
-                System.out.println("클라이언트 종료: " + role);
-            }
-            clients.remove(this);
-        }
-
-        /*
-         * 배팅 완료 처리
-         * 두 플레이어 모두 완료 시 카드 분배 시작
-         */
-        private void handleBetDone(String role) {
-            if (role.equals("PLAYER1")) p1Done = true;
-            else p2Done = true;
-
-            broadcast("CHAT:[" + role + "] 배팅 완료");
-
-            if (p1Done && p2Done && !roundInProgress) {
-                try { Thread.sleep(600); } catch (Exception ignored) {}
-                dealInitialCards();
+    void leaveTable(Table table, Connection ch) {
+        tables.computeIfPresent(table.getId(), (id, t) -> {
+            if (t != table) return t;
+            t.removeClient(ch);
+            if (!t.isEmpty()) return t;
+
+            if (RESUME_GRACE_MS > 0) {
+                scheduler.schedule(() -> closeIfEmpty(table), RESUME_GRACE_MS, TimeUnit.MILLISECONDS);
+                return t;
             }
-        }
-
-       
-        //배팅 금액 처리
-        private void handleBet(String role, String amount) {
-            Player cur = (role.equals("PLAYER1") ? p1 : p2);
-
-            int chips = cur.getChips();
-            int bet = amount.equals("ALL") ? chips : Integer.parseInt(amount);
-
-            if (chips < bet) {
-                send("CHAT:[SYSTEM] 칩이 부족합니다.");
-                return;
-            }
-
-            cur.loseChips(bet);
-            cur.setBetAmount(cur.getBetAmount() + bet);
-
-            broadcast("CHAT:[" + role + "] +" + bet + "칩 (총 배팅 " + cur.getBetAmount() + ")");
-            updateChips();
-        }
+            t.close();
+            return null;
+        });
+    }
 
-        //Hit 처리
-        private void handleHit(String role) {
-            if (!roundInProgress) return;
+    //테이블이 여전히 비어 있으면 종료하고 목록에서 제거
+    private void closeIfEmpty(Table table) {
+        tables.computeIfPresent(table.getId(), (id, t) -> {
+            if (t != table || !t.isEmpty()) return t;
 
-            Player cur = role.equals("PLAYER1") ? p1 : p2;
+            t.close();
+            return null;
+        });
+    }
 
-            cur.getHand().addCard(deck.draw());
-            broadcast("GAME:CARD:" + role + ":" + formatCards(cur.getHand()));
+    //현재 운영 중인 테이블 수
+    public int getTableCount() {
+        return tables.size();
+    }
 
-            if (cur.getHand().getValue() > 21) {
-                broadcast("CHAT:[" + role + "] 버스트!");
-                if (role.equals("PLAYER1")) broadcast("GAME:TURN:PLAYER2");
-                else dealerTurn();
-            }
-        }
+    //플레이어 칩 원장
+    Ledger ledger() {
+        return ledger;
+    }
 
-        //Stand 처리
-        private void handleStand(String role) {
-            broadcast("CHAT:[" + role + "] Stand");
-            if (role.equals("PLAYER1")) broadcast("GAME:TURN:PLAYER2");
-            else dealerTurn();
-        }
+    //서버 계측
+    ServerMetrics metrics() {
+        return metrics;
+    }
 
-        //단일 클라이언트 메시지 전송
-        private void send(String msg) {
-            try {
-                out.write(msg + "\n");
-                out.flush();
-            } catch (IOException ignored) {}
+    //모든 연결의 전송 큐 길이 {합계, 최대} (계측 조회 시 계산)
+    long[] outboundQueueDepth() {
+        long[] acc = new long[2];
+        for (Connection c : connections.values()) {
+            int d = c.queueDepth();
+            acc[0] += d;
+            acc[1] = Math.max(acc[1], d);
         }
+        return acc;
     }
 }
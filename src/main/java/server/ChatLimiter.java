@@ -0,0 +1,62 @@
+package server;
+
+/*
+ * ChatLimiter
+ * =================================================
+ * [역할]
+ * - 연결 하나가 보내는 채팅의 속도를 제한하는 토큰 버킷
+ *
+ * [설계 의도]
+ * - 채팅은 테이블의 모든 연결로 퍼지므로 한 명이 빠르게 보내면
+ *   같은 테이블의 전송 큐와 메일박스가 채팅으로 채워져 게임 메시지가 늦어짐
+ *   -> 초당 RATE개, 최대 BURST개까지 연달아 허용하고 넘는 채팅은 버림
+ * - 연결의 수신 처리는 한 스레드에서만 일어나므로 잠금 없이 필드만 사용
+ * - 버린 사실은 토큰이 다시 찰 때까지 한 번만 알림 (알림이 또 다른 스팸이 되지 않도록)
+ */
+final class ChatLimiter {
+
+    //초당 허용 채팅 수 (-Dbj.chatRate=N, 기본 2)
+    static final double RATE = Double.parseDouble(System.getProperty("bj.chatRate", "2"));
+
+    //연달아 허용하는 최대 채팅 수 (-Dbj.chatBurst=N, 기본 5)
+    static final int BURST = Integer.getInteger("bj.chatBurst", 5);
+
+    //채팅 한 줄의 최대 글자 수 (-Dbj.chatMaxChars=N, 기본 200, 넘으면 잘라서 전달)
+    static final int MAX_CHARS = Integer.getInteger("bj.chatMaxChars", 200);
+
+    private double tokens = BURST;
+    private long lastNanos = System.nanoTime();
+
+    //마지막으로 허용한 뒤 이미 알렸는지
+    private boolean warned = false;
+
+    /*
+     * tryAcquire()
+     * -------------------------------------------------
+     * 채팅 하나를 보낼 수 있으면 토큰을 쓰고 true
+     */
+    boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(BURST, tokens + (now - lastNanos) * RATE / 1e9);
+        lastNanos = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            warned = false;
+            return true;
+        }
+        return false;
+    }
+
+    //거부된 채팅에 대해 알림을 보내야 하는지 (허용될 때까지 한 번만 true)
+    boolean shouldWarn() {
+        if (warned) return false;
+        warned = true;
+        return true;
+    }
+
+    //최대 글자 수로 자른 채팅 내용
+    static String clip(String text) {
+        return text.length() > MAX_CHARS ? text.substring(0, MAX_CHARS) : text;
+    }
+}
@@ -0,0 +1,125 @@
+package server;
+
+import protocol.WireInput;
+import java.io.*;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+
+/*
+ * ClientHandler
+ * =================================================
+ * 스레드 하나가 소켓 하나를 담당하는 블로킹 방식의 연결
+ * Runnable을 구현하여 스레드로 실행됨
+ *
+ * - 읽기: run()을 실행하는 스레드가 한 줄씩(바이너리 모드에서는 프레임 하나씩) 읽어 처리
+ * - 쓰기: 별도의 writer 스레드가 전송 큐를 비우며 소켓에 기록
+ *   여러 메시지가 쌓여 있으면 한 번에 모아 쓰고 flush는 한 번만 수행
+ */
+class ClientHandler extends Connection implements Runnable {
+
+    //writer 스레드가 한 번에 모아 쓰는 최대 메시지 수
+    private static final int MAX_BATCH = 256;
+
+    private final Socket socket;
+    private final ThreadFactory threadFactory;
+    private WireInput in;
+    private OutputStream out;
+
+    //전송 대기 큐 (인코딩된 바이트, writer 스레드가 비움)
+    private final BlockingQueue<byte[]> outbound = new ArrayBlockingQueue<>(OUTBOUND_LIMIT);
+
+    private Thread writer;
+
+    ClientHandler(BlackjackServer server, Socket socket, ThreadFactory threadFactory) {
+        super(server);
+        this.socket = socket;
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public void run() {
+        try {
+            in = new WireInput(new BufferedInputStream(socket.getInputStream(), 8192));
+            //메시지는 이미 UTF-8로 인코딩되어 있으므로 바이트 스트림으로 기록
+            out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+
+            //읽기 스레드와 같은 방식(플랫폼/가상)으로 writer 스레드 실행
+            writer = threadFactory.newThread(this::writeLoop);
+            writer.start();
+
+            onOpen();
+
+            while (true) {
+                if (in.isBinary()) {
+                    int len = in.readFrame();
+                    if (len < 0) break;
+                    handleFrame(in.frameBuffer(), 0, len);
+                } else {
+                    String line = in.readLine();
+                    if (line == null) break;
+                    handleLine(line);
+                }
+            }
+        } catch (IOException ignored) {
+        } finally {
+            //처리 중 예외가 나도 자리, 연결 목록, writer 스레드가 남지 않도록 항상 정리
+            close();
+        }
+    }
+
+    /*
+     * writeLoop()
+     * -------------------------------------------------
+     * 전송 큐에서 메시지를 꺼내 소켓에 기록
+     * 쌓여 있는 메시지는 한 번에 모아 쓰고 flush는 한 번만 수행
+     * (인코딩된 바이트를 그대로 기록하므로 연결마다 다시 인코딩하지 않음)
+     */
+    private void writeLoop() {
+        List<byte[]> batch = new ArrayList<>();
+        try {
+            while (!isClosed()) {
+                batch.add(outbound.take());
+                outbound.drainTo(batch, MAX_BATCH - 1);
+
+                for (byte[] msg : batch) {
+                    out.write(msg);
+                }
+                out.flush();
+                batch.clear();
+            }
+        } catch (InterruptedException ignored) {
+        } catch (IOException e) {
+            close();
+        }
+    }
+
+    //미리 인코딩된 메시지 전송 (전송 큐에 넣고 바로 반환)
+    //텍스트/바이너리 여부는 큐에 넣는 시점에 결정
+    @Override
+    void send(OutboundMessage msg) {
+        if (isClosed()) return;
+        if (!outbound.offer(encodedFor(msg))) onOutboundOverflow();
+    }
+
+    @Override
+    int queueDepth() {
+        return outbound.size();
+    }
+
+    @Override
+    protected void switchInputToBinary() {
+        in.switchToBinary();
+    }
+
+    //소켓을 닫아 읽기 루프를 끝내고 writer 스레드 종료
+    @Override
+    protected void closeTransport() {
+        try { socket.close(); } catch (IOException ignored) {}
+        if (writer != null) writer.interrupt();
+        outbound.clear();
+    }
+}
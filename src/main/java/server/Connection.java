@@ -0,0 +1,368 @@
+package server;
+
+import ledger.Ledger;
+import protocol.BinaryProtocol;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Connection
+ * =================================================
+ * [역할]
+ * - 클라이언트 연결 하나를 표현하는 공통 부모 클래스
+ * - 텍스트 프로토콜 메시지 해석과 테이블 착석을 담당
+ *
+ * [설계 의도]
+ * - 전송 방식(스레드당 소켓 / NIO 셀렉터)과 무관하게
+ *   같은 메시지 처리 로직을 공유하도록 분리
+ * - 하위 클래스는 한 줄 단위로 handleLine()을 (바이너리 모드에서는
+ *   프레임 단위로 handleFrame()을) 호출하고 send()로 전송하는 방법만 구현
+ *
+ * [프로토콜]
+ * - 기본은 텍스트 프로토콜 (한 줄 = 메시지 하나)
+ * - 테이블 착석 전에 "PROTO:BIN"을 받으면 바이너리 프레임으로 전환 (BinaryProtocol)
+ *
+ * [전송 정책]
+ * - send()는 소켓에 직접 쓰지 않고 연결별 전송 큐에 넣기만 함
+ * - 큐에는 미리 인코딩된 OutboundMessage가 들어가므로 broadcast 시 인코딩은 한 번뿐
+ * - 큐 길이는 OUTBOUND_LIMIT으로 제한되며, 넘치면 SlowConsumerPolicy에 따라 처리
+ * - 받은 채팅은 연결마다 ChatLimiter로 속도를 제한한 뒤 테이블에 전달
+ *
+ * [재접속]
+ * - 착석하면 테이블이 "SESSION:토큰"을 보내고, 끊긴 클라이언트는 새 연결에서
+ *   MODE 대신 "RESUME:토큰"을 보내 같은 자리와 진행 중인 라운드로 돌아감
+ */
+abstract class Connection {
+
+    //연결별 전송 대기 큐의 최대 메시지 수 (-Dbj.outboundLimit=N)
+    static final int OUTBOUND_LIMIT = Integer.getInteger("bj.outboundLimit", 1024);
+
+    //전송 큐가 가득 찼을 때의 처리 방식
+    static final SlowConsumerPolicy SLOW_CONSUMER_POLICY = SlowConsumerPolicy.fromSystemProperty();
+
+    //계정이 다른 자리에서 사용 중일 때의 착석 거부 알림
+    static final String ACCOUNT_IN_USE =
+            "CHAT:[SYSTEM] 다른 자리에서 사용 중인 계정입니다. 그 자리의 테이블이 정리된 뒤 다시 시도하세요.";
+
+    //연결 번호 발급기
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+
+    protected final BlackjackServer server;
+
+    //서버 안에서 유일한 연결 번호 (서버 연결 목록의 키)
+    final long id = NEXT_ID.incrementAndGet();
+
+    //연결 종료 여부 (close()가 한 번만 실행되도록 보장)
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    //클라이언트 역할
+    protected String role = "UNKNOWN";
+
+    //착석한 테이블 (MODE 메시지 수신 전에는 null)
+    protected Table table;
+
+    //바이너리 프로토콜 사용 여부 (전송 큐에 넣는 시점의 값으로 인코딩 결정)
+    protected volatile boolean binary = false;
+
+    //onOpen()이 호출되었는지 여부 (접속 수 계측이 어긋나지 않도록)
+    private volatile boolean opened = false;
+
+    //채팅 속도 제한 (수신 스레드 전용)
+    private final ChatLimiter chatLimiter = new ChatLimiter();
+
+    Connection(BlackjackServer server) {
+        this.server = server;
+    }
+
+    //미리 인코딩된 메시지 전송 (전송 큐에 넣고 바로 반환)
+    abstract void send(OutboundMessage msg);
+
+    //단일 클라이언트 메시지 전송 (한 줄)
+    void send(String msg) {
+        OutboundMessage m = OutboundMessage.of(msg);
+        server.metrics().messageOut(m.type(), 1);
+        send(m);
+    }
+
+    //전송 큐에 쌓여 있는 메시지 수 (계측용)
+    abstract int queueDepth();
+
+    //소켓/채널 자원 정리
+    protected abstract void closeTransport();
+
+    //이후 입력을 바이너리 프레임으로 해석하도록 전환
+    protected abstract void switchInputToBinary();
+
+    //이 연결의 프로토콜에 맞게 인코딩된 바이트
+    protected byte[] encodedFor(OutboundMessage msg) {
+        return binary ? msg.frame() : msg.bytes();
+    }
+
+    //연결 종료 여부
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /*
+     * close()
+     * -------------------------------------------------
+     * 연결 종료 (어느 스레드에서 여러 번 호출해도 한 번만 처리)
+     */
+    final void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        closeTransport();
+        onClose();
+    }
+
+    /*
+     * onOutboundOverflow()
+     * -------------------------------------------------
+     * 전송 큐가 가득 찼을 때 호출
+     * DROP이면 메시지만 버리고, DISCONNECT이면 연결을 끊음
+     */
+    protected void onOutboundOverflow() {
+        server.metrics().slowConsumer();
+        if (SLOW_CONSUMER_POLICY == SlowConsumerPolicy.DISCONNECT) {
+            System.out.println("느린 클라이언트 연결 종료: " + role);
+            close();
+        }
+    }
+
+    //연결 직후 호출
+    protected void onOpen() {
+        opened = true;
+        server.register(this);
+        server.metrics().connectionOpened();
+        send("WAITING:상대 플레이어 연결을 기다리는 중...");
+    }
+
+    //연결 종료 시 호출
+    protected void onClose() {
+        System.out.println("클라이언트 종료: " + role);
+        if (opened) {
+            server.unregister(this);
+            server.metrics().connectionClosed();
+        }
+        if (table != null) server.leaveTable(table, this);
+    }
+
+    /*
+     * handleLine()
+     * -------------------------------------------------
+     * 클라이언트로부터 받은 한 줄의 메시지를 종류별로 세고 처리
+     * (처리 시간은 테이블 메일박스에서 명령이 실행될 때 Table이 기록)
+     */
+    protected void handleLine(String line) {
+        server.metrics().messageIn(MessageType.of(line));
+        dispatchLine(line);
+    }
+
+    //한 줄의 메시지를 해석하여 처리
+    private void dispatchLine(String line) {
+
+        //바이너리 프로토콜 협상
+        if (line.equals(BinaryProtocol.HANDSHAKE)) {
+            handleHandshake();
+            return;
+        }
+
+        //역할 설정 메시지 (MODE:역할[:테이블ID])
+        if (line.startsWith("MODE:")) {
+            handleMode(line.substring(5));
+            return;
+        }
+
+        //재접속 (RESUME:세션토큰)
+        if (line.startsWith("RESUME:")) {
+            handleResume(line.substring(7));
+            return;
+        }
+
+        //테이블에 앉기 전의 게임 메시지는 무시
+        if (table == null) return;
+
+        //채팅 메시지
+        if (line.startsWith("CHAT:")) {
+            handleChat(line.substring(5));
+        }
+        //배팅 완료 신호
+        else if (line.equals("BET:DONE")) {
+            table.handleBetDone(role);
+        }
+        //배팅 금액 처리 (올인은 "ALL"만, 숫자가 아니거나 음수면 거부)
+        else if (line.startsWith("BET:")) {
+            String amount = line.substring(4);
+            if (amount.equals("ALL")) {
+                table.handleBet(this, role, BinaryProtocol.BET_ALL);
+                return;
+            }
+            int v;
+            try {
+                v = Integer.parseInt(amount);
+            } catch (NumberFormatException e) {
+                v = -1;
+            }
+            if (v < 0) rejectBet();
+            else table.handleBet(this, role, v);
+        }
+        //Hit 요청
+        else if (line.startsWith("GAME:HIT")) {
+            table.handleHit(role);
+        }
+        //Stand 요청
+        else if (line.startsWith("GAME:STAND")) {
+            table.handleStand(role);
+        }
+    }
+
+    /*
+     * handleFrame()
+     * -------------------------------------------------
+     * 바이너리 프레임 하나를 종류별로 세고 처리
+     * f[off]가 opcode, len은 opcode를 포함한 길이
+     */
+    protected void handleFrame(byte[] f, int off, int len) {
+        byte op = f[off];
+
+        //텍스트 프레임은 본문을 한 줄로 처리 (종류도 본문으로 분류)
+        if (op == BinaryProtocol.OP_TEXT) {
+            handleLine(BinaryProtocol.utf8(f, off + 1, len - 1));
+            return;
+        }
+
+        server.metrics().messageIn(MessageType.ofOpcode(op));
+        dispatchFrame(f, off, len);
+    }
+
+    //바이너리 프레임 하나를 opcode로 바로 분기하여 처리
+    private void dispatchFrame(byte[] f, int off, int len) {
+        byte op = f[off];
+
+        if (op == BinaryProtocol.OP_MODE) {
+            handleMode(BinaryProtocol.utf8(f, off + 1, len - 1));
+            return;
+        }
+
+        //테이블에 앉기 전의 게임 메시지는 무시
+        if (table == null) return;
+
+        switch (op) {
+            case BinaryProtocol.OP_CHAT -> handleChat(BinaryProtocol.utf8(f, off + 1, len - 1));
+            case BinaryProtocol.OP_BET_DONE -> table.handleBetDone(role);
+            case BinaryProtocol.OP_BET -> {
+                if (len < 5) return;
+                //바이너리에서는 BET_ALL만 올인, 그 외 음수는 거부
+                int v = BinaryProtocol.getInt(f, off + 1);
+                if (v < 0 && v != BinaryProtocol.BET_ALL) rejectBet();
+                else table.handleBet(this, role, v);
+            }
+            case BinaryProtocol.OP_HIT -> table.handleHit(role);
+            case BinaryProtocol.OP_STAND -> table.handleStand(role);
+            default -> {}
+        }
+    }
+
+    //잘못된 배팅 금액 알림 (보낸 사람에게만)
+    private void rejectBet() {
+        send("CHAT:[SYSTEM] 잘못된 배팅 금액입니다.");
+    }
+
+    /*
+     * handleChat()
+     * -------------------------------------------------
+     * 속도 제한을 넘지 않은 채팅만 테이블에 전달 (너무 긴 채팅은 잘라서)
+     * 넘은 채팅은 버리고 보낸 사람에게만 한 번 알림
+     */
+    private void handleChat(String text) {
+        if (!chatLimiter.tryAcquire()) {
+            server.metrics().chatDropped(1);
+            if (chatLimiter.shouldWarn()) send("CHAT:[SYSTEM] 채팅이 너무 빠릅니다. 잠시 후 다시 입력하세요.");
+            return;
+        }
+        table.handleChat(role, ChatLimiter.clip(text));
+    }
+
+    /*
+     * handleHandshake()
+     * -------------------------------------------------
+     * 바이너리 프로토콜로 전환
+     * 테이블 착석 전에만 허용하여, 응답("PROTO:BIN")보다 늦게 큐에 들어간
+     * 텍스트 메시지가 없도록 보장 (착석 전에는 이 스레드만 메시지를 보냄)
+     */
+    private void handleHandshake() {
+        if (binary || table != null) return;
+
+        send(BinaryProtocol.HANDSHAKE);
+        binary = true;
+        switchInputToBinary();
+    }
+
+    /*
+     * handleMode()
+     * -------------------------------------------------
+     * 역할 설정 및 테이블 착석 (인자: 역할[:테이블ID[:계정]])
+     * 계정은 원장(Ledger)에서 칩 잔액을 찾는 이름
+     * 생략하면 "테이블ID/역할"을 계정으로 사용 (같은 자리로 다시 접속하면 잔액 유지)
+     * 테이블 ID나 계정 이름이 원장 규칙(Ledger.isValidAccount)에 맞지 않으면 착석 거부
+     * (테이블 ID는 기본 계정 이름의 일부이므로 같은 규칙 적용)
+     * 계정은 한 번에 한 자리에서만 쓸 수 있으므로 다른 자리에서 사용 중이면 착석 거부
+     */
+    private void handleMode(String arg) {
+        String[] parts = arg.split(":", 3);
+
+        String tableId = parts.length > 1 && !parts[1].isEmpty()
+                ? parts[1] : BlackjackServer.DEFAULT_TABLE;
+        String account = parts.length > 2 && !parts[2].isEmpty()
+                ? parts[2] : tableId + "/" + parts[0];
+
+        if (!Ledger.isValidAccount(tableId) || !Ledger.isValidAccount(account)) {
+            send("CHAT:[SYSTEM] 테이블/계정 이름은 " + Ledger.MAX_ACCOUNT_LENGTH
+                    + "자 이하의 글자, 숫자, _ - . / 만 사용할 수 있습니다.");
+            return;
+        }
+
+        //플레이어 자리면 계정을 먼저 예약 (같은 잔액을 두 자리에서 따로 쓰지 않도록)
+        if (Table.seatOf(parts[0]) >= 0 && !server.ledger().claim(account, Table.seatName(tableId, parts[0]))) {
+            send(ACCOUNT_IN_USE);
+            return;
+        }
+        role = parts[0];
+
+        //다른 테이블에 앉아 있었다면 먼저 떠남
+        if (table != null) server.leaveTable(table, this);
+        table = server.joinTable(tableId, this);
+
+        table.handleJoin(this, role, account);
+    }
+
+    /*
+     * handleResume()
+     * -------------------------------------------------
+     * 세션 토큰("테이블ID:역할:비밀값")으로 끊기기 전의 자리에 다시 앉음
+     * 테이블이 아직 있고 비밀값이 맞을 때만 착석하며, 아니면 "SESSION:INVALID"
+     * (클라이언트는 INVALID를 받으면 MODE로 새로 착석)
+     * 착석 전에만 허용
+     */
+    private void handleResume(String token) {
+        if (table != null) return;
+
+        //역할과 비밀값에는 ':'가 없으므로 뒤에서부터 두 번 자름
+        int secretAt = token.lastIndexOf(':');
+        int roleAt = secretAt > 0 ? token.lastIndexOf(':', secretAt - 1) : -1;
+
+        Table t = null;
+        String seatRole = null;
+        if (roleAt > 0) {
+            seatRole = token.substring(roleAt + 1, secretAt);
+            t = server.resumeTable(token.substring(0, roleAt), seatRole, token.substring(secretAt + 1), this);
+        }
+        if (t == null) {
+            send("SESSION:INVALID");
+            return;
+        }
+
+        role = seatRole;
+        table = t;
+        table.handleResume(this, role);
+    }
+}
@@ -0,0 +1,69 @@
+package server;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * ConnectionSet
+ * =================================================
+ * [역할]
+ * - 테이블에 앉은 연결 목록 (중복 없음)
+ *
+ * [설계 의도]
+ * - 착석/퇴장은 드물고 broadcast는 매우 잦으므로 쓰기 시 복사(copy-on-write) 방식 사용
+ * - 변경은 새 배열을 만들어 CAS로 교체하므로 잠금이 없음
+ * - broadcast는 snapshot()이 돌려준 배열을 그대로 순회
+ *   (잠금도, 목록 복사도 없고 순회 중 착석/퇴장이 있어도 안전)
+ */
+final class ConnectionSet {
+
+    private static final Connection[] EMPTY = new Connection[0];
+
+    //현재 연결 배열 (한 번 게시된 배열은 절대 수정하지 않음)
+    private final AtomicReference<Connection[]> members = new AtomicReference<>(EMPTY);
+
+    //연결 추가 (이미 있으면 false)
+    boolean add(Connection c) {
+        while (true) {
+            Connection[] cur = members.get();
+            if (indexOf(cur, c) >= 0) return false;
+
+            Connection[] next = Arrays.copyOf(cur, cur.length + 1);
+            next[cur.length] = c;
+            if (members.compareAndSet(cur, next)) return true;
+        }
+    }
+
+    //연결 제거 (없으면 false)
+    boolean remove(Connection c) {
+        while (true) {
+            Connection[] cur = members.get();
+            int i = indexOf(cur, c);
+            if (i < 0) return false;
+
+            Connection[] next;
+            if (cur.length == 1) {
+                next = EMPTY;
+            } else {
+                next = new Connection[cur.length - 1];
+                System.arraycopy(cur, 0, next, 0, i);
+                System.arraycopy(cur, i + 1, next, i, cur.length - i - 1);
+            }
+            if (members.compareAndSet(cur, next)) return true;
+        }
+    }
+
+    //현재 연결 배열 (읽기 전용으로만 사용)
+    Connection[] snapshot() {
+        return members.get();
+    }
+
+    boolean isEmpty() {
+        return members.get().length == 0;
+    }
+
+    private static int indexOf(Connection[] arr, Connection c) {
+        for (int i = 0; i < arr.length; i++) if (arr[i] == c) return i;
+        return -1;
+    }
+}
@@ -0,0 +1,57 @@
+package server;
+
+import protocol.BinaryProtocol;
+
+/*
+ * MessageType
+ * =================================================
+ * 계측(ServerMetrics)에서 메시지 수를 종류별로 세기 위한 분류
+ * 텍스트 한 줄과 바이너리 opcode 모두 같은 분류로 변환
+ */
+enum MessageType {
+    HANDSHAKE, MODE, CHAT, BET, BET_DONE, HIT, STAND,
+    WAITING, RESET, CARD, CARD_ADD, TURN, CHIPS, BETTING,
+    RESUME, SESSION, SNAPSHOT, OTHER;
+
+    //텍스트 프로토콜 한 줄의 종류
+    static MessageType of(String line) {
+        if (line.startsWith("CHAT:")) return CHAT;
+        if (line.startsWith("GAME:CARD_ADD:")) return CARD_ADD;
+        if (line.startsWith("GAME:CARD:")) return CARD;
+        if (line.startsWith("GAME:TURN:")) return TURN;
+        if (line.startsWith("CHIPS:")) return CHIPS;
+        if (line.equals("BET:DONE")) return BET_DONE;
+        if (line.startsWith("BET:")) return BET;
+        if (line.startsWith("GAME:HIT")) return HIT;
+        if (line.startsWith("GAME:STAND")) return STAND;
+        if (line.equals("GAME:RESET")) return RESET;
+        if (line.equals("INFO:BETTING")) return BETTING;
+        if (line.startsWith("MODE:")) return MODE;
+        if (line.startsWith("WAITING:")) return WAITING;
+        if (line.startsWith("RESUME:")) return RESUME;
+        if (line.startsWith("SESSION:")) return SESSION;
+        if (line.startsWith("SNAPSHOT:")) return SNAPSHOT;
+        if (line.equals(BinaryProtocol.HANDSHAKE)) return HANDSHAKE;
+        return OTHER;
+    }
+
+    //바이너리 프레임 opcode의 종류 (OP_TEXT는 본문을 보고 of()로 분류)
+    static MessageType ofOpcode(byte op) {
+        return switch (op) {
+            case BinaryProtocol.OP_CHAT -> CHAT;
+            case BinaryProtocol.OP_WAITING -> WAITING;
+            case BinaryProtocol.OP_RESET -> RESET;
+            case BinaryProtocol.OP_CARD -> CARD;
+            case BinaryProtocol.OP_TURN -> TURN;
+            case BinaryProtocol.OP_CHIPS -> CHIPS;
+            case BinaryProtocol.OP_BETTING -> BETTING;
+            case BinaryProtocol.OP_CARD_ADD -> CARD_ADD;
+            case BinaryProtocol.OP_MODE -> MODE;
+            case BinaryProtocol.OP_BET -> BET;
+            case BinaryProtocol.OP_BET_DONE -> BET_DONE;
+            case BinaryProtocol.OP_HIT -> HIT;
+            case BinaryProtocol.OP_STAND -> STAND;
+            default -> OTHER;
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package server;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/*
+ * MetricsEndpoint
+ * =================================================
+ * 계측 값을 일반 텍스트로 돌려주는 로컬 HTTP 엔드포인트
+ *
+ * - 루프백 주소에만 바인딩 (외부에서 접근 불가)
+ *   curl http://127.0.0.1:5556/metrics
+ * - 요청은 전용 데몬 스레드 하나에서 처리하여 게임 스레드에 영향을 주지 않음
+ */
+final class MetricsEndpoint {
+
+    private MetricsEndpoint() {}
+
+    //port에서 /metrics 엔드포인트 시작
+    static HttpServer start(ServerMetrics metrics, int port) throws IOException {
+        HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+
+        http.createContext("/metrics", ex -> {
+            byte[] body = metrics.render().getBytes(StandardCharsets.UTF_8);
+            ex.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            ex.sendResponseHeaders(200, body.length);
+            try (OutputStream os = ex.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        http.setExecutor(Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("metrics-http").daemon(true).factory()));
+        http.start();
+        return http;
+    }
+}
@@ -0,0 +1,212 @@
+package server;
+
+import protocol.WireInput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * NioConnection
+ * =================================================
+ * NioServer의 EventLoop가 관리하는 논블로킹 연결
+ *
+ * - 읽기: 연결마다 읽기 버퍼를 두고 '\n' 단위로 한 줄씩 잘라 처리
+ *   (바이너리 모드에서는 길이 2바이트를 보고 프레임 단위로 잘라 처리)
+ * - 쓰기: 보낼 메시지를 큐에 쌓고 I/O 스레드에서 소켓에 기록
+ *   쌓인 메시지는 gathering write로 한 번의 시스템 콜에 모아 전송
+ *   소켓 버퍼가 가득 차면 OP_WRITE를 등록하여 나머지를 나중에 전송
+ */
+final class NioConnection extends Connection {
+
+    //한 줄의 최대 길이 (초과 시 비정상 클라이언트로 보고 연결 종료, 블로킹 모드와 같은 한도)
+    private static final int MAX_LINE = WireInput.MAX_LINE;
+
+    //한 번의 gathering write에 모으는 최대 메시지 수
+    private static final int MAX_BATCH = 64;
+
+    private final NioServer.EventLoop loop;
+    private final SocketChannel channel;
+    private SelectionKey key;
+
+    //소켓에서 읽어온 데이터 버퍼
+    private final ByteBuffer readBuf = ByteBuffer.allocate(4096);
+
+    //아직 '\n'을 만나지 못한 한 줄의 바이트 (바이너리 모드에서는 미완성 프레임)
+    private byte[] lineBuf = new byte[256];
+    private int lineLen = 0;
+
+    //입력을 바이너리 프레임으로 해석하는지 여부 (I/O 스레드 전용)
+    private boolean binaryInput = false;
+
+    //전송 대기 중인 메시지와 그 개수 (OUTBOUND_LIMIT으로 제한)
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    //gathering write에 사용하는 버퍼 배열 (I/O 스레드 전용)
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_BATCH];
+
+    //EventLoop에 쓰기 요청을 이미 넣었는지 여부
+    private final AtomicBoolean writeRequested = new AtomicBoolean(false);
+
+    NioConnection(BlackjackServer server, NioServer.EventLoop loop, SocketChannel channel) {
+        super(server);
+        this.loop = loop;
+        this.channel = channel;
+    }
+
+    //셀렉터 등록이 끝난 뒤 호출
+    void attach(SelectionKey key) {
+        this.key = key;
+        onOpen();
+    }
+
+    /*
+     * onReadable()
+     * -------------------------------------------------
+     * 소켓에서 읽은 바이트를 줄 단위로 잘라 handleLine()에 전달
+     * 바이너리 모드에서는 프레임 단위로 잘라 handleFrame()에 전달
+     */
+    void onReadable() throws IOException {
+        int n = channel.read(readBuf);
+        if (n < 0) {
+            close();
+            return;
+        }
+
+        readBuf.flip();
+        while (readBuf.hasRemaining() && !isClosed()) {
+            byte b = readBuf.get();
+
+            if (binaryInput) {
+                readFrameByte(b);
+                continue;
+            }
+
+            if (b == '\n') {
+                int len = lineLen;
+                if (len > 0 && lineBuf[len - 1] == '\r') len--;
+                String line = new String(lineBuf, 0, len, StandardCharsets.UTF_8);
+                lineLen = 0;
+                handleLine(line);
+                continue;
+            }
+
+            if (lineLen == lineBuf.length) {
+                if (lineLen >= MAX_LINE) {
+                    close();
+                    return;
+                }
+                lineBuf = Arrays.copyOf(lineBuf, Math.min(lineLen * 2, MAX_LINE));
+            }
+            lineBuf[lineLen++] = b;
+        }
+        readBuf.clear();
+    }
+
+    /*
+     * readFrameByte()
+     * -------------------------------------------------
+     * 바이너리 프레임의 바이트를 하나씩 모음
+     * 길이 2바이트 + 본문이 모두 모이면 handleFrame() 호출
+     */
+    private void readFrameByte(byte b) {
+        if (lineLen == lineBuf.length) lineBuf = Arrays.copyOf(lineBuf, lineLen * 2);
+        lineBuf[lineLen++] = b;
+
+        if (lineLen < 2) return;
+
+        int len = (lineBuf[0] & 0xFF) << 8 | (lineBuf[1] & 0xFF);
+        if (len == 0) {
+            close();
+            return;
+        }
+        if (lineLen == 2 + len) {
+            lineLen = 0;
+            handleFrame(lineBuf, 2, len);
+        }
+    }
+
+    @Override
+    int queueDepth() {
+        return queued.get();
+    }
+
+    @Override
+    protected void switchInputToBinary() {
+        binaryInput = true;
+        lineLen = 0;
+    }
+
+    /*
+     * onWritable()
+     * -------------------------------------------------
+     * 큐에 쌓인 메시지를 최대 MAX_BATCH개씩 모아 한 번에 기록
+     * 모두 보내지 못하면 OP_WRITE를 켜 두고 다음 이벤트에서 이어서 전송
+     */
+    void onWritable() throws IOException {
+        if (isClosed()) return;
+
+        while (true) {
+            //큐 앞쪽의 메시지를 배열에 모음 (아직 큐에서 제거하지 않음)
+            int n = 0;
+            for (ByteBuffer b : outbound) {
+                batch[n++] = b;
+                if (n == MAX_BATCH) break;
+            }
+            if (n == 0) break;
+
+            channel.write(batch, 0, n);
+
+            //끝까지 보낸 메시지만 큐에서 제거
+            int done = 0;
+            while (done < n && !batch[done].hasRemaining()) done++;
+            for (int i = 0; i < done; i++) outbound.poll();
+            queued.addAndGet(-done);
+            Arrays.fill(batch, 0, n, null);
+
+            if (done < n) {
+                key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                return;
+            }
+        }
+
+        key.interestOps(SelectionKey.OP_READ);
+        writeRequested.set(false);
+
+        //플래그를 내리는 사이에 들어온 메시지가 있으면 다시 요청
+        if (!outbound.isEmpty() && writeRequested.compareAndSet(false, true)) {
+            loop.requestWrite(this);
+        }
+    }
+
+    //미리 인코딩된 메시지 전송 (어느 스레드에서든 호출 가능)
+    //바이트는 공유하고 연결별 전송 위치만 가지는 뷰를 큐에 넣음
+    @Override
+    void send(OutboundMessage msg) {
+        if (isClosed()) return;
+
+        if (queued.incrementAndGet() > OUTBOUND_LIMIT) {
+            queued.decrementAndGet();
+            onOutboundOverflow();
+            return;
+        }
+
+        outbound.add(ByteBuffer.wrap(encodedFor(msg)).asReadOnlyBuffer());
+        if (writeRequested.compareAndSet(false, true)) loop.requestWrite(this);
+    }
+
+    //셀렉터 등록 해제 및 채널 종료
+    @Override
+    protected void closeTransport() {
+        if (key != null) key.cancel();
+        try { channel.close(); } catch (IOException ignored) {}
+        outbound.clear();
+    }
+}
@@ -0,0 +1,187 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.*;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/*
+ * NioServer
+ * =================================================
+ * [역할]
+ * - java.nio 셀렉터 기반의 논블로킹 서버 모드
+ * - 소수의 I/O 스레드(EventLoop)가 모든 소켓을 담당
+ *
+ * [서버 구조]
+ * - 시작한 스레드가 ServerSocketChannel에서 접속을 수락
+ * - 수락한 채널은 EventLoop에 라운드로빈으로 배정
+ * - 각 EventLoop는 하나의 Selector로 읽기/쓰기 이벤트 처리
+ * - 메시지 형식은 기존 텍스트 프로토콜(한 줄 = 메시지 하나)과 동일
+ */
+class NioServer {
+
+    //접속 수락 실패 후 다시 시도하기까지의 대기(ms)
+    private static final long ACCEPT_BACKOFF_MS = 100;
+
+    private final BlackjackServer server;
+    private final int port;
+    private final EventLoop[] loops;
+
+    NioServer(BlackjackServer server, int port, int ioThreads) throws IOException {
+        this.server = server;
+        this.port = port;
+        this.loops = new EventLoop[Math.max(1, ioThreads)];
+        for (int i = 0; i < loops.length; i++) loops[i] = new EventLoop(server);
+    }
+
+    /*
+     * start()
+     * -------------------------------------------------
+     * EventLoop 스레드를 시작하고 접속을 지속적으로 수락
+     */
+    void start() throws IOException {
+        for (int i = 0; i < loops.length; i++) {
+            Thread t = new Thread(loops[i], "nio-io-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+
+        try (ServerSocketChannel ssc = ServerSocketChannel.open()) {
+            ssc.bind(new InetSocketAddress(port), 1024);
+
+            int next = 0;
+            while (true) {
+                //접속 수락 (수락 자체는 블로킹으로 처리)
+                //파일 디스크립터 부족(EMFILE) 등으로 실패하면 잠시 쉬었다가 계속 수락
+                SocketChannel ch;
+                try {
+                    ch = ssc.accept();
+                } catch (IOException e) {
+                    //서버 채널 자체가 닫혔으면 더 수락할 수 없으므로 종료
+                    if (!ssc.isOpen()) throw e;
+                    System.out.println("접속 수락 실패: " + e.getMessage());
+                    backOff();
+                    continue;
+                }
+
+                //설정 중 끊긴 연결 하나 때문에 수락 루프가 멈추지 않도록 그 채널만 닫음
+                try {
+                    ch.configureBlocking(false);
+                    ch.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                } catch (IOException e) {
+                    try { ch.close(); } catch (IOException ignored) {}
+                    continue;
+                }
+
+                loops[next].register(ch);
+                next = (next + 1) % loops.length;
+            }
+        }
+    }
+
+    //수락 실패 후 다시 시도하기 전 대기 (실패가 계속될 때 CPU를 태우지 않도록)
+    private static void backOff() {
+        try {
+            Thread.sleep(ACCEPT_BACKOFF_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * EventLoop
+     * =================================================
+     * Selector 하나로 여러 연결의 읽기/쓰기 이벤트를 처리하는 I/O 스레드
+     *
+     * - 다른 스레드에서 요청한 채널 등록/쓰기 요청은 큐에 넣고
+     *   selector.wakeup()으로 루프를 깨워 I/O 스레드에서 처리
+     */
+    static final class EventLoop implements Runnable {
+
+        private final BlackjackServer server;
+        private final Selector selector;
+
+        //등록 대기 중인 채널
+        private final Queue<SocketChannel> pendingChannels = new ConcurrentLinkedQueue<>();
+
+        //전송할 데이터가 생긴 연결
+        private final Queue<NioConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+        private volatile Thread thread;
+
+        EventLoop(BlackjackServer server) throws IOException {
+            this.server = server;
+            this.selector = Selector.open();
+        }
+
+        //새 채널 등록 요청
+        void register(SocketChannel ch) {
+            pendingChannels.add(ch);
+            selector.wakeup();
+        }
+
+        //연결의 쓰기 요청
+        //I/O 스레드 자신이 요청한 경우에는 wakeup 없이 다음 루프에서 처리
+        void requestWrite(NioConnection c) {
+            pendingWrites.add(c);
+            if (Thread.currentThread() != thread) selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            while (true) {
+                try {
+                    processPending();
+                    if (pendingWrites.isEmpty()) selector.select();
+                    else selector.selectNow();
+
+                    Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+                    while (it.hasNext()) {
+                        SelectionKey key = it.next();
+                        it.remove();
+
+                        NioConnection c = (NioConnection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isReadable()) c.onReadable();
+                            if (key.isValid() && key.isWritable()) c.onWritable();
+                        } catch (IOException | CancelledKeyException e) {
+                            c.close();
+                        } catch (RuntimeException e) {
+                            //한 연결의 처리 오류가 루프의 다른 연결을 멈추지 않도록 그 연결만 닫음
+                            System.out.println("연결 처리 오류: " + e);
+                            c.close();
+                        }
+                    }
+                } catch (IOException e) {
+                    System.out.println("I/O 루프 오류: " + e.getMessage());
+                }
+            }
+        }
+
+        //큐에 쌓인 등록/쓰기 요청 처리
+        private void processPending() {
+            SocketChannel ch;
+            while ((ch = pendingChannels.poll()) != null) {
+                try {
+                    NioConnection c = new NioConnection(server, this, ch);
+                    c.attach(ch.register(selector, SelectionKey.OP_READ, c));
+                } catch (IOException e) {
+                    try { ch.close(); } catch (IOException ignored) {}
+                }
+            }
+
+            NioConnection c;
+            while ((c = pendingWrites.poll()) != null) {
+                try {
+                    c.onWritable();
+                } catch (IOException | CancelledKeyException e) {
+                    c.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package server;
+
+import protocol.BinaryProtocol;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * OutboundMessage
+ * =================================================
+ * [역할]
+ * - 클라이언트에게 보낼 메시지 한 줄을 미리 인코딩해 둔 불변 객체
+ *
+ * [설계 의도]
+ * - broadcast 시 메시지를 UTF-8로 한 번만 인코딩하고
+ *   같은 바이트 배열을 모든 연결이 공유하여 전송
+ * - 연결마다 복사하지 않고 읽기 전용 뷰(ByteBuffer)만 새로 만들어 사용
+ * - 바이너리 프레임은 바이너리 연결에 처음 보낼 때 한 번만 인코딩
+ */
+final class OutboundMessage {
+
+    //원본 메시지 (줄바꿈 제외)
+    private final String text;
+
+    //계측용 메시지 종류
+    private final MessageType type;
+
+    //"메시지\n"을 UTF-8로 인코딩한 바이트 (절대 수정하지 않음)
+    private final byte[] bytes;
+
+    //바이너리 프레임 (필요할 때 한 번만 생성, 동시에 만들어도 결과는 같음)
+    private volatile byte[] frame;
+
+    private OutboundMessage(String text) {
+        this.text = text;
+        this.type = MessageType.of(text);
+        this.bytes = (text + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    //메시지 한 줄을 인코딩
+    static OutboundMessage of(String text) {
+        return new OutboundMessage(text);
+    }
+
+    //원본 메시지 반환
+    String text() { return text; }
+
+    //메시지 종류 반환
+    MessageType type() { return type; }
+
+    //인코딩된 바이트 반환 (스트림에 그대로 기록, 수정 금지)
+    byte[] bytes() { return bytes; }
+
+    //바이너리 프레임 반환 (수정 금지)
+    byte[] frame() {
+        byte[] f = frame;
+        if (f == null) frame = f = BinaryProtocol.encode(text);
+        return f;
+    }
+}
@@ -0,0 +1,220 @@
+package server;
+
+import metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * ServerMetrics
+ * =================================================
+ * [역할]
+ * - 서버 계측 값(접속 수, 테이블 수, 라운드, 메시지 수, 지연 시간, 전송 큐 길이) 수집
+ * - JMX(ServerMetricsMXBean)와 일반 텍스트 엔드포인트(MetricsEndpoint)로 노출
+ *
+ * [설계 의도]
+ * - 기록 경로는 잠금 없이 처리 (LongAdder, LatencyHistogram)
+ *   여러 연결 스레드가 동시에 기록해도 서로 기다리지 않음
+ * - 테이블 수와 전송 큐 길이처럼 현재 상태를 나타내는 값은 조회할 때 계산
+ * - 초당 값은 sample()이 1초마다 직전 값과의 차이로 계산
+ */
+final class ServerMetrics implements ServerMetricsMXBean {
+
+    private static final MessageType[] TYPES = MessageType.values();
+
+    private final BlackjackServer server;
+
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder slowConsumers = new LongAdder();
+    private final LongAdder chatDropped = new LongAdder();
+
+    //메시지 종류별 수신/송신 개수
+    private final LongAdder[] in = adders();
+    private final LongAdder[] out = adders();
+
+    //수신 명령의 테이블 메일박스 실행 시간, broadcast 시간 (ns)
+    private final LatencyHistogram handleLatency = new LatencyHistogram();
+    private final LatencyHistogram broadcastLatency = new LatencyHistogram();
+
+    //sample()이 계산한 최근 1초의 초당 값
+    private volatile double roundsPerSecond, inPerSecond, outPerSecond;
+    private long lastRounds, lastIn, lastOut, lastSampleNanos = System.nanoTime();
+
+    ServerMetrics(BlackjackServer server) {
+        this.server = server;
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] a = new LongAdder[TYPES.length];
+        for (int i = 0; i < a.length; i++) a[i] = new LongAdder();
+        return a;
+    }
+
+    //----- 기록 -----
+
+    void connectionOpened() { connected.increment(); }
+
+    void connectionClosed() { connected.decrement(); }
+
+    void roundCompleted() { rounds.increment(); }
+
+    void slowConsumer() { slowConsumers.increment(); }
+
+    //속도 제한 또는 전송 큐 적체로 버린 채팅 (n: 버린 수신자 수)
+    void chatDropped(int n) { chatDropped.add(n); }
+
+    //수신 메시지 하나
+    void messageIn(MessageType type) {
+        in[type.ordinal()].increment();
+    }
+
+    //테이블 메일박스에서 명령 하나를 실행하는 데 걸린 시간
+    void commandHandled(long nanos) {
+        handleLatency.record(nanos);
+    }
+
+    //송신 메시지 (recipients: 받은 연결 수)
+    void messageOut(MessageType type, int recipients) {
+        out[type.ordinal()].add(recipients);
+    }
+
+    //broadcast 한 번의 소요 시간
+    void broadcast(long nanos) {
+        broadcastLatency.record(nanos);
+    }
+
+    /*
+     * sample()
+     * -------------------------------------------------
+     * 직전 호출 이후의 증가량으로 초당 값 계산 (스케줄러가 1초마다 호출)
+     */
+    synchronized void sample() {
+        long now = System.nanoTime();
+        double sec = (now - lastSampleNanos) / 1e9;
+        if (sec <= 0) return;
+
+        long r = rounds.sum(), i = sum(in), o = sum(out);
+        roundsPerSecond = (r - lastRounds) / sec;
+        inPerSecond = (i - lastIn) / sec;
+        outPerSecond = (o - lastOut) / sec;
+
+        lastRounds = r;
+        lastIn = i;
+        lastOut = o;
+        lastSampleNanos = now;
+    }
+
+    //----- 조회 (ServerMetricsMXBean) -----
+
+    @Override public long getConnectedClients() { return connected.sum(); }
+
+    @Override public int getActiveTables() { return server.getTableCount(); }
+
+    @Override public long getRoundsTotal() { return rounds.sum(); }
+
+    @Override public double getRoundsPerSecond() { return roundsPerSecond; }
+
+    @Override public long getMessagesInTotal() { return sum(in); }
+
+    @Override public long getMessagesOutTotal() { return sum(out); }
+
+    @Override public double getMessagesInPerSecond() { return inPerSecond; }
+
+    @Override public double getMessagesOutPerSecond() { return outPerSecond; }
+
+    @Override public Map<String, Long> getMessagesIn() { return byType(in); }
+
+    @Override public Map<String, Long> getMessagesOut() { return byType(out); }
+
+    @Override public long getOutboundQueued() { return server.outboundQueueDepth()[0]; }
+
+    @Override public long getOutboundQueueMax() { return server.outboundQueueDepth()[1]; }
+
+    @Override public long getSlowConsumerEvents() { return slowConsumers.sum(); }
+
+    @Override public long getChatDropped() { return chatDropped.sum(); }
+
+    @Override public double getHandleLatencyP50Micros() { return micros(handleLatency, 50); }
+
+    @Override public double getHandleLatencyP99Micros() { return micros(handleLatency, 99); }
+
+    @Override public double getHandleLatencyP999Micros() { return micros(handleLatency, 99.9); }
+
+    @Override public double getBroadcastP50Micros() { return micros(broadcastLatency, 50); }
+
+    @Override public double getBroadcastP99Micros() { return micros(broadcastLatency, 99); }
+
+    @Override public double getBroadcastP999Micros() { return micros(broadcastLatency, 99.9); }
+
+    @Override
+    public void resetHistograms() {
+        handleLatency.reset();
+        broadcastLatency.reset();
+    }
+
+    /*
+     * render()
+     * -------------------------------------------------
+     * "이름 값" 한 줄씩의 일반 텍스트 (Prometheus 텍스트 형식과 호환)
+     */
+    @Override
+    public String render() {
+        long[] queue = server.outboundQueueDepth();
+        StringBuilder sb = new StringBuilder(2048);
+
+        line(sb, "bj_connected_clients", getConnectedClients());
+        line(sb, "bj_active_tables", getActiveTables());
+        line(sb, "bj_rounds_total", getRoundsTotal());
+        line(sb, "bj_rounds_per_second", getRoundsPerSecond());
+        line(sb, "bj_messages_in_per_second", getMessagesInPerSecond());
+        line(sb, "bj_messages_out_per_second", getMessagesOutPerSecond());
+        for (MessageType t : TYPES) {
+            line(sb, "bj_messages_in_total{type=\"" + t + "\"}", in[t.ordinal()].sum());
+        }
+        for (MessageType t : TYPES) {
+            line(sb, "bj_messages_out_total{type=\"" + t + "\"}", out[t.ordinal()].sum());
+        }
+        line(sb, "bj_outbound_queued", queue[0]);
+        line(sb, "bj_outbound_queue_max", queue[1]);
+        line(sb, "bj_slow_consumer_total", getSlowConsumerEvents());
+        line(sb, "bj_chat_dropped_total", getChatDropped());
+        quantiles(sb, "bj_handle_latency_micros", handleLatency);
+        quantiles(sb, "bj_broadcast_micros", broadcastLatency);
+        return sb.toString();
+    }
+
+    private static void quantiles(StringBuilder sb, String name, LatencyHistogram h) {
+        line(sb, name + "{quantile=\"0.5\"}", micros(h, 50));
+        line(sb, name + "{quantile=\"0.99\"}", micros(h, 99));
+        line(sb, name + "{quantile=\"0.999\"}", micros(h, 99.9));
+        line(sb, name + "_count", h.count());
+    }
+
+    private static void line(StringBuilder sb, String name, long v) {
+        sb.append(name).append(' ').append(v).append('\n');
+    }
+
+    //소수점은 로캘과 무관하게 항상 "." (Prometheus 텍스트 형식)
+    private static void line(StringBuilder sb, String name, double v) {
+        sb.append(name).append(' ').append(String.format(Locale.ROOT, "%.3f", v)).append('\n');
+    }
+
+    private static double micros(LatencyHistogram h, double p) {
+        return h.percentile(p) / 1e3;
+    }
+
+    private static long sum(LongAdder[] a) {
+        long n = 0;
+        for (LongAdder x : a) n += x.sum();
+        return n;
+    }
+
+    private static Map<String, Long> byType(LongAdder[] a) {
+        Map<String, Long> m = new LinkedHashMap<>();
+        for (MessageType t : TYPES) m.put(t.name(), a[t.ordinal()].sum());
+        return m;
+    }
+}
@@ -0,0 +1,64 @@
+package server;
+
+import java.util.Map;
+
+/*
+ * ServerMetricsMXBean
+ * =================================================
+ * JMX로 노출하는 서버 계측 항목 (jconsole 등에서 bj:type=ServerMetrics로 조회)
+ * 지연 시간은 마이크로초, 초당 값은 최근 1초 기준
+ */
+public interface ServerMetricsMXBean {
+
+    long getConnectedClients();
+
+    int getActiveTables();
+
+    long getRoundsTotal();
+
+    double getRoundsPerSecond();
+
+    long getMessagesInTotal();
+
+    long getMessagesOutTotal();
+
+    double getMessagesInPerSecond();
+
+    double getMessagesOutPerSecond();
+
+    //메시지 종류별 수신/송신 개수
+    Map<String, Long> getMessagesIn();
+
+    Map<String, Long> getMessagesOut();
+
+    //모든 연결의 전송 큐에 쌓인 메시지 수와 가장 긴 큐의 길이
+    long getOutboundQueued();
+
+    long getOutboundQueueMax();
+
+    //전송 큐가 가득 차 메시지를 버리거나 연결을 끊은 횟수
+    long getSlowConsumerEvents();
+
+    //속도 제한 또는 전송 큐 적체로 버린 채팅 수
+    long getChatDropped();
+
+    //수신 명령 하나를 테이블 메일박스에서 실행하는 데 걸린 시간 (대기 시간 제외)
+    double getHandleLatencyP50Micros();
+
+    double getHandleLatencyP99Micros();
+
+    double getHandleLatencyP999Micros();
+
+    //broadcast 한 번(모든 연결의 큐에 넣기)에 걸린 시간
+    double getBroadcastP50Micros();
+
+    double getBroadcastP99Micros();
+
+    double getBroadcastP999Micros();
+
+    //지연 시간 히스토그램 초기화
+    void resetHistograms();
+
+    //일반 텍스트 형식의 전체 계측 값
+    String render();
+}
@@ -0,0 +1,23 @@
+package server;
+
+/*
+ * SlowConsumerPolicy
+ * =================================================
+ * 전송 대기 큐가 가득 찬(메시지를 제때 읽지 못하는) 클라이언트에 대한 처리 방식
+ *
+ * -Dbj.slowConsumer=drop | disconnect 로 지정 (기본 disconnect)
+ */
+enum SlowConsumerPolicy {
+
+    //새 메시지를 버리고 연결은 유지
+    DROP,
+
+    //연결을 끊음 (게임 상태가 어긋난 채로 진행되는 것을 방지)
+    DISCONNECT;
+
+    //시스템 속성에서 정책 읽기
+    static SlowConsumerPolicy fromSystemProperty() {
+        String v = System.getProperty("bj.slowConsumer", "disconnect");
+        return valueOf(v.trim().toUpperCase());
+    }
+}
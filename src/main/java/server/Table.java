@@ -0,0 +1,588 @@
+package server;
+
+import engine.RoundEngine;
+import engine.RoundListener;
+import history.RoundHistory;
+import history.RoundRecorder;
+import ledger.Ledger;
+import model.*;
+import protocol.BinaryProtocol;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Table
+ * =================================================
+ * [역할]
+ * - 블랙잭 테이블 하나의 게임 상태를 관리
+ * - 클라이언트 명령을 라운드 엔진(RoundEngine)에 전달하고
+ *   엔진이 발생시킨 이벤트를 클라이언트 메시지로 변환하여 전송
+ *
+ * [설계 의도]
+ * - 테이블마다 카드 슈, 딜러 손패, 플레이어를 따로 가짐
+ * - 메시지는 해당 테이블에 앉은 클라이언트에게만 전송
+ * - 하나의 서버(JVM)에서 여러 테이블을 동시에 운영할 수 있도록 분리
+ * - 카드 분배, 딜러 카드 공개, 다음 라운드 시작 등 지연이 필요한 진행은
+ *   스레드를 재우지 않고 TableTimeline에 예약하여 이어서 실행
+ * - 게임 규칙(분배, 턴, 정산)은 RoundEngine이 담당하고 이 클래스는 전송과 시간만 담당
+ * - 클라이언트 명령과 타이머 단계는 모두 테이블 메일박스(TableMailbox)에 넣어 순서대로 실행
+ *   플레이어, 엔진, 슈 등 게임 상태는 메일박스 작업 안에서만 접근하므로 잠금이 필요 없음
+ *   (handle*() 메서드는 어느 스레드에서 호출해도 작업을 넣고 바로 반환)
+ * - 라운드 기록이 켜져 있으면 엔진 이벤트를 RoundRecorder에도 함께 전달
+ * - 착석한 플레이어에게 세션 토큰("테이블ID:역할:비밀값")을 발급
+ *   연결이 끊겼다가 RESUME:토큰으로 다시 접속하면 플레이어와 라운드를 그대로 두고
+ *   현재 테이블 상태를 SNAPSHOT 메시지 하나로 보내 한 번에 복구
+ */
+class Table implements RoundListener {
+
+    //테이블 식별자
+    private final String id;
+
+    //배팅 완료 후 카드 분배까지의 지연(ms)
+    static final long DEAL_DELAY_MS = Long.getLong("bj.dealDelayMs", 600);
+
+    //딜러가 카드를 한 장씩 받는 간격(ms)
+    static final long DEALER_DRAW_DELAY_MS = Long.getLong("bj.dealerDrawDelayMs", 900);
+
+    //결과 발표 후 다음 라운드 시작까지의 지연(ms)
+    static final long NEXT_ROUND_DELAY_MS = Long.getLong("bj.nextRoundDelayMs", 6000);
+
+    //전송 큐가 이만큼 차 있는 연결에는 채팅을 보내지 않음
+    static final int CHAT_QUEUE_LIMIT = Connection.OUTBOUND_LIMIT / 2;
+
+    //카드 슈의 덱 수와 컷 카드 위치 비율
+    static final int SHOE_DECKS = Integer.getInteger("bj.shoeDecks", 6);
+    static final double SHOE_PENETRATION =
+            Double.parseDouble(System.getProperty("bj.shoePenetration", "0.75"));
+
+    //명령과 진행 단계를 순서대로 실행하는 메일박스
+    private final TableMailbox mailbox;
+
+    //테이블의 진행 단계를 예약하는 타임라인
+    private final TableTimeline timeline;
+
+    //서버 계측
+    private final ServerMetrics metrics;
+
+    //칩 잔액 원장 (착석 시 잔액 복원, 배팅/정산 기록)
+    private final Ledger ledger;
+
+    //라운드 기록 (기록하지 않으면 null)
+    private final RoundRecorder recorder;
+
+    //이 테이블에 접속 중인 클라이언트 목록 (쓰기 시 복사, 잠금 없음)
+    private final ConnectionSet clients = new ConnectionSet();
+
+    //PLAYER1, PLAYER2 객체
+    private Player p1, p2;
+
+    //자리별 원장 계정 (엔진 자리 번호 순서)
+    //테이블 종료 시 다른 스레드에서 계정 예약을 풀기 때문에 원자적 배열
+    private final AtomicReferenceArray<String> accounts = new AtomicReferenceArray<>(2);
+
+    //자리별 세션 비밀값 (재접속 확인은 연결의 수신 스레드에서 하므로 원자적 배열)
+    private final AtomicReferenceArray<String> sessions = new AtomicReferenceArray<>(2);
+
+    //자리를 차지한 연결 (재접속 시 끊기지 않고 남아 있던 이전 연결을 닫기 위함)
+    private final Connection[] owners = new Connection[2];
+
+    //세션 비밀값 생성기
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    //카드 슈 (라운드가 바뀌어도 유지, 컷 카드에 도달하면 셔플)
+    private final Shoe shoe = new Shoe(SHOE_DECKS, SHOE_PENETRATION);
+
+    //라운드 규칙 엔진 (두 플레이어가 모두 착석하면 생성)
+    private RoundEngine engine;
+
+    Table(String id, Executor workers, ScheduledExecutorService scheduler,
+          ServerMetrics metrics, Ledger ledger, RoundHistory history) {
+        this.id = id;
+        this.mailbox = new TableMailbox(workers);
+        this.timeline = new TableTimeline(scheduler, mailbox);
+        this.metrics = metrics;
+        this.ledger = ledger;
+        this.recorder = history.isEnabled() ? new RoundRecorder(id, history) : null;
+    }
+
+    /*
+     * command()
+     * -------------------------------------------------
+     * 클라이언트 명령을 메일박스에 넣음
+     * 명령이 메일박스에서 실제로 실행된 시간을 수신 메시지 처리 시간으로 기록
+     * (handle*()는 넣고 바로 반환하므로 호출한 쪽에서 재면 넣는 시간만 측정됨)
+     */
+    private void command(Runnable task) {
+        mailbox.execute(() -> {
+            long start = System.nanoTime();
+            task.run();
+            metrics.commandHandled(System.nanoTime() - start);
+        });
+    }
+
+    //테이블 식별자 반환
+    String getId() { return id; }
+
+    //클라이언트를 테이블에 추가
+    void addClient(Connection ch) {
+        clients.add(ch);
+    }
+
+    //클라이언트를 테이블에서 제거
+    void removeClient(Connection ch) {
+        clients.remove(ch);
+    }
+
+    //접속 중인 클라이언트가 없는지 확인
+    boolean isEmpty() {
+        return clients.isEmpty();
+    }
+
+    //테이블 종료 (예약된 진행 단계와 처리 대기 중인 명령 취소, 자리의 계정 예약 해제)
+    void close() {
+        mailbox.close();
+        timeline.cancelAll();
+        for (int seat = 0; seat < accounts.length(); seat++) {
+            String account = accounts.get(seat);
+            if (account != null) ledger.release(account, seatName(id, roleOf(seat)));
+        }
+    }
+
+    //원장에 계정 예약을 남기는 자리 이름 ("테이블ID/역할")
+    static String seatName(String tableId, String role) {
+        return tableId + "/" + role;
+    }
+
+    /*
+     * broadcast()
+     * -------------------------------------------------
+     * 이 테이블의 모든 클라이언트에게 메시지를 전송
+     * 목록의 스냅샷 배열을 그대로 순회하므로 잠금도 복사도 없음
+     * (send()는 각 연결의 전송 큐에 넣기만 하므로 느린 클라이언트가 다른 클라이언트를 막지 않음)
+     * 메시지는 한 번만 인코딩하여 모든 연결이 같은 바이트를 공유
+     * 모든 큐에 넣기까지의 시간과 받은 연결 수를 계측에 기록
+     */
+    private void broadcast(String msg) {
+        long start = System.nanoTime();
+
+        OutboundMessage encoded = OutboundMessage.of(msg);
+        Connection[] targets = clients.snapshot();
+        for (Connection c : targets) c.send(encoded);
+
+        metrics.messageOut(encoded.type(), targets.length);
+        metrics.broadcast(System.nanoTime() - start);
+    }
+
+    //역할 이름 -> 엔진 자리 번호 (알 수 없으면 -1)
+    static int seatOf(String role) {
+        return switch (role) {
+            case "PLAYER1" -> 0;
+            case "PLAYER2" -> 1;
+            default -> -1;
+        };
+    }
+
+    //엔진 자리 번호 -> 역할 이름
+    private static String roleOf(int seat) {
+        return switch (seat) {
+            case 0 -> "PLAYER1";
+            case 1 -> "PLAYER2";
+            default -> "DEALER";
+        };
+    }
+
+    /*
+     * handleJoin()
+     * -------------------------------------------------
+     * 역할(PLAYER1 / PLAYER2)에 맞게 플레이어 생성
+     * 칩은 원장에 저장된 계정 잔액으로 시작 (새 계정이거나 칩을 모두 잃었으면 시작 칩)
+     * 계정이 다른 자리에서 사용 중이면 착석 거부 (Connection이 먼저 예약하지만
+     * 그 사이 이전 테이블이 정리되며 예약이 풀렸을 수 있으므로 다시 예약)
+     * 자리의 계정이 바뀌면 이전 계정의 예약은 해제
+     * 새 세션 토큰을 발급하여 착석한 연결에만 전송 (같은 자리의 이전 토큰은 무효)
+     * 두 자리가 모두 차면 라운드 엔진을 만들고 라운드 시작
+     */
+    void handleJoin(Connection from, String role, String account) {
+        command(() -> join(from, role, account));
+    }
+
+    private void join(Connection from, String role, String account) {
+        int seat = seatOf(role);
+        if (seat < 0) return;
+
+        if (!ledger.claim(account, seatName(id, role))) {
+            from.send(Connection.ACCOUNT_IN_USE);
+            return;
+        }
+        String prev = accounts.getAndSet(seat, account);
+        if (prev != null && !prev.equals(account)) ledger.release(prev, seatName(id, role));
+
+        Player p = new Player(role, ledger.openAccount(account));
+        if (seat == 0) p1 = p;
+        else p2 = p;
+
+        String secret = newSecret();
+        sessions.set(seat, secret);
+        owners[seat] = from;
+        from.send("SESSION:" + id + ":" + role + ":" + secret);
+
+        if (p1 != null && p2 != null) {
+            broadcast("CHAT:[SYSTEM] 두 플레이어 연결됨. 배팅 시작!");
+
+            //이전 엔진의 예약된 진행은 버림
+            timeline.cancelAll();
+            Player[] players = {p1, p2};
+            if (recorder == null) {
+                engine = new RoundEngine(shoe, players, this);
+            } else {
+                engine = new RoundEngine(shoe, players, RoundListener.both(this, recorder));
+                recorder.attach(engine);
+            }
+            startNewRound();
+        }
+    }
+
+    //추측할 수 없는 세션 비밀값 (128비트)
+    private static String newSecret() {
+        byte[] b = new byte[16];
+        RANDOM.nextBytes(b);
+        return HexFormat.of().formatHex(b);
+    }
+
+    /*
+     * checkSession()
+     * -------------------------------------------------
+     * 역할 자리에 발급한 세션 비밀값과 같은지 확인 (어느 스레드에서 호출해도 됨)
+     * 비교 시간으로 비밀값을 추측하지 못하도록 고정 시간 비교
+     */
+    boolean checkSession(String role, String secret) {
+        int seat = seatOf(role);
+        if (seat < 0) return false;
+
+        String current = sessions.get(seat);
+        return current != null && MessageDigest.isEqual(
+                current.getBytes(StandardCharsets.US_ASCII), secret.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /*
+     * handleResume()
+     * -------------------------------------------------
+     * 세션 토큰으로 다시 접속한 연결에 자리를 넘겨주고 현재 상태를 스냅샷으로 전송
+     * 플레이어, 배팅, 진행 중인 라운드는 그대로 유지
+     * 같은 자리의 이전 연결이 아직 끊기지 않았으면(반쯤 끊긴 TCP) 닫음
+     */
+    void handleResume(Connection from, String role) {
+        command(() -> resume(from, role));
+    }
+
+    private void resume(Connection from, String role) {
+        int seat = seatOf(role);
+        if (seat < 0) return;
+
+        Connection old = owners[seat];
+        owners[seat] = from;
+        if (old != null && old != from) old.close();
+
+        //상대가 아직 없으면 라운드 상태도 없음
+        if (engine == null) {
+            from.send("WAITING:상대 플레이어 연결을 기다리는 중...");
+            return;
+        }
+
+        from.send(snapshot());
+        broadcast("CHAT:[SYSTEM] " + role + " 재접속");
+    }
+
+    /*
+     * snapshot()
+     * -------------------------------------------------
+     * 현재 테이블 상태를 메시지 한 줄로 만듦
+     * SNAPSHOT:단계:턴:딜러카드:자리1:자리2
+     *   턴    : 역할 이름, 턴이 없는 단계면 "-"
+     *   딜러  : 플레이어 턴까지는 공개 카드만, 딜러 턴부터 전체
+     *   자리  : 칩/배팅/배팅완료(0,1)/카드 (엔진 자리 번호 순서)
+     *   카드  : "suit-rank"를 쉼표로 이은 목록 (없으면 빈 문자열)
+     */
+    private String snapshot() {
+        RoundEngine.Phase phase = engine.getPhase();
+        StringBuilder sb = new StringBuilder(160).append("SNAPSHOT:").append(phase).append(':');
+
+        sb.append(switch (phase) {
+            case PLAYER_TURN -> roleOf(engine.getTurn());
+            case DEALER_TURN -> "DEALER";
+            default -> "-";
+        }).append(':');
+
+        sb.append(switch (phase) {
+            case PLAYER_TURN -> formatCard(engine.getDealerUpCard());
+            case DEALER_TURN, FINISHED -> formatCards(engine.getDealerHand());
+            default -> "";
+        });
+
+        for (int seat = 0; seat < engine.getSeatCount(); seat++) {
+            Player p = engine.getPlayer(seat);
+            sb.append(':').append(p.getChips())
+              .append('/').append(p.getBetAmount())
+              .append('/').append(engine.isBetDone(seat) ? 1 : 0)
+              .append('/').append(formatCards(p.getHand()));
+        }
+        return sb.toString();
+    }
+
+    //채팅 메시지 전달 (게임 메시지와 순서가 섞이지 않도록 메일박스에서 전송)
+    void handleChat(String role, String text) {
+        command(() -> broadcastChat("CHAT:[" + role + "] " + text));
+    }
+
+    /*
+     * broadcastChat()
+     * -------------------------------------------------
+     * 사용자 채팅 전송
+     * 전송 큐가 절반 이상 찬 연결에는 보내지 않음
+     * (밀린 연결의 남은 자리는 게임 메시지에 양보, 채팅은 빠져도 게임 진행에 지장 없음)
+     */
+    private void broadcastChat(String msg) {
+        long start = System.nanoTime();
+
+        OutboundMessage encoded = OutboundMessage.of(msg);
+        Connection[] targets = clients.snapshot();
+        int sent = 0;
+        for (Connection c : targets) {
+            if (c.queueDepth() >= CHAT_QUEUE_LIMIT) continue;
+            c.send(encoded);
+            sent++;
+        }
+
+        if (sent < targets.length) metrics.chatDropped(targets.length - sent);
+        metrics.messageOut(encoded.type(), sent);
+        metrics.broadcast(System.nanoTime() - start);
+    }
+
+    /*
+     * startNewRound()
+     * -------------------------------------------------
+     * 새 라운드 시작
+     * (상태 초기화와 셔플 여부 판단은 엔진이 처리)
+     */
+    private void startNewRound() {
+        broadcast("GAME:RESET");
+        engine.startRound();
+    }
+
+    /*
+     * formatCards()
+     * -------------------------------------------------
+     * Hand 객체를 "suit-rank,suit-rank" 문자열로 변환
+     * 클라이언트 카드 표시용
+     */
+    static String formatCards(Hand h) {
+        List<String> list = new ArrayList<>();
+        for (Card c : h.getCards()) list.add(formatCard(c));
+        return String.join(",", list);
+    }
+
+    //카드 한 장을 "suit-rank" 문자열로 변환
+    static String formatCard(Card c) {
+        return c.getName();
+    }
+
+    /*
+     * updateChips()
+     * -------------------------------------------------
+     * 테이블의 모든 클라이언트에 현재 칩 정보 전송
+     */
+    private void updateChips() {
+        broadcast("CHIPS:P1:" + p1.getChips());
+        broadcast("CHIPS:P2:" + p2.getChips());
+    }
+
+    /*
+     * dealerStep()
+     * -------------------------------------------------
+     * 딜러가 카드를 더 받아야 하면 일정 시간 뒤 한 장 추가하도록 예약
+     * 더 받지 않아도 되면 정산
+     */
+    private void dealerStep() {
+        if (!engine.dealerNeedsCard()) {
+            evaluateResults();
+            return;
+        }
+
+        timeline.after(DEALER_DRAW_DELAY_MS, this::dealerDraw);
+    }
+
+    //딜러 카드 한 장 추가 후 다음 단계 진행
+    private void dealerDraw() {
+        engine.dealerDraw();
+        dealerStep();
+    }
+
+    //초기 카드 분배
+    private void deal() {
+        engine.deal();
+    }
+
+    /*
+     * evaluateResults()
+     * -------------------------------------------------
+     * 엔진으로 정산한 뒤 결과와 칩 정보를 전송
+     */
+    private void evaluateResults() {
+
+        engine.settle();
+        metrics.roundCompleted();
+
+        int d = engine.getDealerHand().getValue();
+        int v1 = p1.getHand().getValue();
+        int v2 = p2.getHand().getValue();
+
+        broadcast("CHAT:[RESULT] 딜러(" + d +
+                ") | P1(" + v1 + ") | P2(" + v2 + ")");
+
+        updateChips();
+
+        //칩이 0인 플레이어가 있으면 게임 종료
+        if (p1.getChips() <= 0 || p2.getChips() <= 0) {
+            broadcast("CHAT:[SYSTEM] 누군가 칩이 0개라 게임 종료.");
+            return;
+        }
+
+        //잠시 뒤 새 라운드 시작
+        timeline.after(NEXT_ROUND_DELAY_MS, this::startNewRound);
+    }
+
+    //플레이어 턴이 끝나 딜러 턴이 되었으면 딜러 진행 시작
+    private void afterPlayerAction() {
+        if (engine.getPhase() == RoundEngine.Phase.DEALER_TURN) dealerStep();
+    }
+
+    /*
+     * 배팅 완료 처리
+     * 두 플레이어 모두 완료 시 잠시 뒤 카드 분배
+     * (엔진이 READY로 바뀌는 순간 한 번만 true를 돌려주므로 중복 분배 없음)
+     */
+    void handleBetDone(String role) {
+        command(() -> betDone(role));
+    }
+
+    private void betDone(String role) {
+        int seat = seatOf(role);
+        if (engine == null || seat < 0) return;
+
+        if (engine.betDone(seat)) timeline.after(DEAL_DELAY_MS, this::deal);
+    }
+
+    //배팅 금액 처리 (amount가 BET_ALL이면 올인)
+    void handleBet(Connection from, String role, int amount) {
+        command(() -> bet(from, role, amount));
+    }
+
+    private void bet(Connection from, String role, int amount) {
+        int seat = seatOf(role);
+        if (engine == null || seat < 0) return;
+
+        int chips = engine.getPlayer(seat).getChips();
+        int bet = amount == BinaryProtocol.BET_ALL ? chips : amount;
+
+        if (chips < bet) {
+            from.send("CHAT:[SYSTEM] 칩이 부족합니다.");
+            return;
+        }
+
+        engine.placeBet(seat, bet);
+    }
+
+    //Hit 처리
+    void handleHit(String role) {
+        command(() -> hit(role));
+    }
+
+    private void hit(String role) {
+        int seat = seatOf(role);
+        if (engine == null || seat < 0) return;
+
+        if (engine.hit(seat)) afterPlayerAction();
+    }
+
+    //Stand 처리
+    void handleStand(String role) {
+        command(() -> stand(role));
+    }
+
+    private void stand(String role) {
+        int seat = seatOf(role);
+        if (engine == null || seat < 0) return;
+
+        if (engine.stand(seat)) afterPlayerAction();
+    }
+
+    //----- RoundEngine 이벤트 -> 클라이언트 메시지 -----
+
+    @Override
+    public void onShuffle() {
+        broadcast("CHAT:[SYSTEM] 컷 카드에 도달하여 카드를 다시 섞습니다.");
+    }
+
+    @Override
+    public void onRoundStart() {
+        broadcast("CHAT:[SYSTEM] 새로운 라운드를 시작합니다. 배팅을 해주세요.");
+        broadcast("INFO:BETTING");
+    }
+
+    @Override
+    public void onBet(int seat, int amount, int total) {
+        ledger.bet(accounts.get(seat), amount, engine.getPlayer(seat).getChips());
+        broadcast("CHAT:[" + roleOf(seat) + "] +" + amount + "칩 (총 배팅 " + total + ")");
+        updateChips();
+    }
+
+    @Override
+    public void onPayout(int seat, int bet, int payout) {
+        ledger.payout(accounts.get(seat), payout, engine.getPlayer(seat).getChips());
+    }
+
+    @Override
+    public void onBetDone(int seat) {
+        broadcast("CHAT:[" + roleOf(seat) + "] 배팅 완료");
+    }
+
+    //초기 분배: 플레이어 손패 전체와 딜러의 첫 카드만 공개
+    @Override
+    public void onInitialDeal() {
+        broadcast("GAME:CARD:PLAYER1:" + formatCards(p1.getHand()));
+        broadcast("GAME:CARD:PLAYER2:" + formatCards(p2.getHand()));
+        broadcast("GAME:CARD:DEALER:" + formatCard(engine.getDealerUpCard()));
+    }
+
+    @Override
+    public void onTurn(int seat) {
+        broadcast("GAME:TURN:" + roleOf(seat));
+        if (seat == RoundEngine.DEALER) broadcast("CHAT:[SYSTEM] 딜러 턴 시작.");
+    }
+
+    //카드 한 장만 전송 (손패 전체를 다시 보내지 않음)
+    @Override
+    public void onCardDealt(int seat, Card card) {
+        broadcast("GAME:CARD_ADD:" + roleOf(seat) + ":" + formatCard(card));
+    }
+
+    @Override
+    public void onHoleCardRevealed(Card card) {
+        broadcast("GAME:CARD_ADD:DEALER:" + formatCard(card));
+    }
+
+    @Override
+    public void onStand(int seat) {
+        broadcast("CHAT:[" + roleOf(seat) + "] Stand");
+    }
+
+    @Override
+    public void onBust(int seat) {
+        broadcast("CHAT:[" + roleOf(seat) + "] 버스트!");
+    }
+}
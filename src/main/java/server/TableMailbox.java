@@ -0,0 +1,86 @@
+package server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * TableMailbox
+ * =================================================
+ * [역할]
+ * - 테이블 하나로 들어오는 명령(클라이언트 메시지, 타이머 단계)을 순서대로 한 번에 하나씩 실행
+ *
+ * [설계 의도]
+ * - 테이블 상태는 항상 이 메일박스의 작업 안에서만 바뀌므로 잠금 없이도 경쟁 상태가 없음
+ *   (한 시점에 하나의 작업자 스레드만 테이블 작업을 실행)
+ * - 메일박스마다 스레드를 두지 않고 서버 공용 작업자 풀(workers)을 빌려 실행
+ *   할 일이 생기면 한 번만 풀에 등록하고, 큐를 비우면 반납
+ * - 한 번에 BATCH개까지만 처리하고 다시 등록하여 바쁜 테이블이 작업자를 독점하지 않음
+ * - 큐와 등록 플래그가 스레드 간 happens-before를 보장하므로
+ *   작업이 매번 다른 작업자 스레드에서 실행되어도 이전 작업의 변경이 보임
+ */
+final class TableMailbox implements Executor {
+
+    //한 번 등록될 때 처리하는 최대 작업 수
+    private static final int BATCH = 64;
+
+    private final Executor workers;
+
+    //처리 대기 중인 작업
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    //작업자 풀에 등록되어 있는지 (실행 중 포함)
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private volatile boolean closed = false;
+
+    TableMailbox(Executor workers) {
+        this.workers = workers;
+    }
+
+    //작업 추가 (어느 스레드에서든 호출 가능, 바로 반환)
+    @Override
+    public void execute(Runnable task) {
+        if (closed) return;
+        queue.add(task);
+        schedule();
+    }
+
+    //아직 등록되지 않았으면 작업자 풀에 등록
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) workers.execute(this::drain);
+    }
+
+    /*
+     * drain()
+     * -------------------------------------------------
+     * 작업자 스레드에서 큐의 작업을 최대 BATCH개 실행
+     * 작업 하나의 예외는 기록만 하고 다음 작업을 계속 처리
+     */
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH && !closed; i++) {
+                Runnable task = queue.poll();
+                if (task == null) break;
+
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.out.println("테이블 작업 오류: " + e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+
+            //반납하는 사이에 들어온 작업이 있으면 다시 등록
+            if (!queue.isEmpty() && !closed) schedule();
+        }
+    }
+
+    //메일박스 종료 (남은 작업은 버리고 이후 작업은 받지 않음)
+    void close() {
+        closed = true;
+        queue.clear();
+    }
+}
@@ -0,0 +1,64 @@
+package server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * TableTimeline
+ * =================================================
+ * [역할]
+ * - 테이블 하나의 시간 흐름(카드 분배 대기, 딜러 카드 공개, 다음 라운드)을 예약
+ *
+ * [설계 의도]
+ * - 모든 테이블이 서버의 공용 스케줄러(소수의 타이머 스레드)를 공유
+ * - 메시지를 처리하는 스레드는 절대 잠들지 않고 다음 단계를 예약만 함
+ * - 타이머 스레드는 시간이 되면 단계를 테이블 메일박스에 넣기만 하므로
+ *   단계도 클라이언트 명령과 같은 순서로 메일박스 안에서 실행됨
+ * - cancelAll() 이후에는 이미 예약된 단계가 실행되지 않도록 세대(epoch)로 구분
+ */
+final class TableTimeline {
+
+    private final ScheduledExecutorService scheduler;
+
+    //단계를 실행할 테이블 메일박스
+    private final Executor mailbox;
+
+    //현재 세대 번호 (cancelAll() 호출 시 증가)
+    private volatile int epoch = 0;
+
+    //아직 실행되지 않은 예약 작업 (테이블은 한 번에 하나의 단계만 예약)
+    private volatile ScheduledFuture<?> pending;
+
+    TableTimeline(ScheduledExecutorService scheduler, Executor mailbox) {
+        this.scheduler = scheduler;
+        this.mailbox = mailbox;
+    }
+
+    /*
+     * after()
+     * -------------------------------------------------
+     * delayMs 뒤에 step을 메일박스에서 실행하도록 예약
+     * 지연이 0 이하이면 바로 실행 (호출자는 이미 메일박스 작업 안에 있음)
+     */
+    void after(long delayMs, Runnable step) {
+        if (delayMs <= 0) {
+            step.run();
+            return;
+        }
+
+        int e = epoch;
+        pending = scheduler.schedule(() -> mailbox.execute(() -> {
+            if (epoch == e) step.run();
+        }), delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    //예약된 모든 단계 취소 (테이블이 닫힐 때 사용)
+    void cancelAll() {
+        epoch++;
+        ScheduledFuture<?> f = pending;
+        if (f != null) f.cancel(false);
+        pending = null;
+    }
+}
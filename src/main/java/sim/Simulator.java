@@ -0,0 +1,244 @@
+package sim;
+
+import engine.RoundEngine;
+import engine.RoundListener;
+import model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/*
+ * Simulator
+ * =================================================
+ * [역할]
+ * - 소켓/GUI 없이 model 패키지만으로 수백만 라운드를 진행하는 몬테카를로 시뮬레이터
+ * - 하우스 엣지, 핸드당 분산, 뱅크롤 곡선을 계산하여 출력
+ *
+ * [설계 의도]
+ * - 라운드 규칙은 서버 테이블과 같은 RoundEngine으로 진행
+ *   (카드 분배 순서, 딜러 17 미만 Hit, Settlement 정산 규칙)
+ * - 전체 라운드를 여러 조각(chunk)으로 나눠 ForkJoinPool에서 병렬 실행
+ * - 조각마다 자신만의 난수 생성기와 카드 슈를 가지므로 스레드 간 공유 상태가 없음
+ * - 라운드 진행 중에는 객체를 만들지 않음 (손패/슈 재사용, Card는 공유 객체)
+ *
+ * [실행]
+ * java -cp out\classes sim.Simulator --rounds=10000000 --strategy=basic
+ *   --rounds=N        전체 라운드 수 (기본 10,000,000)
+ *   --seats=N         플레이어 수 (기본 2, 서버 테이블과 같음)
+ *   --bet=N           핸드당 배팅 칩 (기본 10)
+ *   --decks=N         슈의 덱 수 (기본 6)
+ *   --penetration=P   컷 카드 위치 비율 (기본 0.75)
+ *   --strategy=NAME   dealer | basic | never-bust | stand (기본 basic)
+ *   --threads=N       병렬 스레드 수 (기본 CPU 코어 수)
+ *   --curve=N         뱅크롤 곡선의 점 개수 (기본 20)
+ *   --seed=N          난수 시드 (지정 시 같은 결과 재현)
+ */
+public class Simulator {
+
+    private final int seats;
+    private final int bet;
+    private final int decks;
+    private final double penetration;
+    private final Strategy strategy;
+
+    public Simulator(int seats, int bet, int decks, double penetration, Strategy strategy) {
+        this.seats = seats;
+        this.bet = bet;
+        this.decks = decks;
+        this.penetration = penetration;
+        this.strategy = strategy;
+    }
+
+    /*
+     * Stats
+     * -------------------------------------------------
+     * 한 조각(또는 전체)의 누적 통계
+     * net은 플레이어 기준 손익 (음수면 하우스 이익)
+     */
+    public static final class Stats {
+        long rounds, hands, wagered, net;
+        long wins, pushes, losses, blackjacks;
+
+        //핸드 손익(배팅 단위)의 제곱 합 (분산 계산용)
+        double sumSq;
+
+        //뱅크롤 곡선 (일정 라운드마다 누적 손익 기록)
+        final long[] curve;
+
+        Stats(int curvePoints) {
+            this.curve = new long[curvePoints];
+        }
+
+        //다른 조각의 통계를 합침 (곡선은 같은 위치끼리 더함)
+        Stats merge(Stats o) {
+            rounds += o.rounds;
+            hands += o.hands;
+            wagered += o.wagered;
+            net += o.net;
+            wins += o.wins;
+            pushes += o.pushes;
+            losses += o.losses;
+            blackjacks += o.blackjacks;
+            sumSq += o.sumSq;
+            for (int i = 0; i < curve.length; i++) curve[i] += o.curve[i];
+            return this;
+        }
+
+        //하우스 엣지 (배팅액 대비 하우스 이익 비율, %)
+        public double houseEdgePercent() {
+            return wagered == 0 ? 0 : -100.0 * net / wagered;
+        }
+
+        //핸드당 손익의 분산 (배팅 단위)
+        public double variancePerHand(int bet) {
+            if (hands == 0) return 0;
+            double mean = (double) net / bet / hands;
+            return sumSq / hands - mean * mean;
+        }
+    }
+
+    /*
+     * run()
+     * -------------------------------------------------
+     * rounds 라운드를 threads개의 스레드로 나누어 실행하고 합친 통계 반환
+     */
+    public Stats run(long rounds, int threads, int curvePoints, long seed) {
+        int chunks = threads * 4;                     //스레드 간 부하 균형을 위해 더 잘게 나눔
+        long perChunk = rounds / chunks;
+        long remainder = rounds % chunks;
+        long stride = Math.max(1, perChunk / Math.max(1, curvePoints));
+
+        //조각별 난수 생성기는 시작 전에 한 스레드에서 분기
+        SplittableRandom root = new SplittableRandom(seed);
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<Stats>> tasks = new ArrayList<>();
+            for (int i = 0; i < chunks; i++) {
+                long n = perChunk + (i == 0 ? remainder : 0);
+                SplittableRandom rng = root.split();
+                tasks.add(pool.submit(() -> play(n, rng, curvePoints, stride)));
+            }
+
+            Stats total = new Stats(curvePoints);
+            for (ForkJoinTask<Stats> t : tasks) total.merge(t.join());
+            return total;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /*
+     * play()
+     * -------------------------------------------------
+     * 한 조각의 라운드를 한 스레드에서 진행
+     * 라운드 진행은 서버 테이블과 같은 RoundEngine을 사용하고
+     * 정산 결과는 onPayout 이벤트로 받아 통계에 누적
+     */
+    private Stats play(long rounds, SplittableRandom rng, int curvePoints, long stride) {
+        Stats st = new Stats(curvePoints);
+
+        Player[] players = new Player[seats];
+        for (int i = 0; i < seats; i++) players[i] = new Player("SEAT" + (i + 1), bet);
+
+        RoundEngine engine = new RoundEngine(new Shoe(decks, penetration, rng), players,
+                new RoundListener() {
+                    @Override
+                    public void onPayout(int seat, int wager, int payout) {
+                        int result = payout - wager;
+                        double units = (double) result / wager;
+
+                        st.hands++;
+                        st.wagered += wager;
+                        st.net += result;
+                        st.sumSq += units * units;
+
+                        if (result > 0) st.wins++;
+                        else if (result < 0) st.losses++;
+                        else st.pushes++;
+                        if (players[seat].getHand().isBlackjack()) st.blackjacks++;
+                    }
+                });
+
+        int point = 0;
+        for (long r = 0; r < rounds; r++) {
+
+            //매 라운드 같은 금액을 배팅 (뱅크롤은 통계로만 추적)
+            engine.startRound();
+            for (int i = 0; i < seats; i++) {
+                players[i].setChips(bet);
+                engine.placeBet(i, bet);
+                engine.betDone(i);
+            }
+            engine.deal();
+
+            //플레이어 턴 (엔진이 버스트 시 다음 차례로 넘김)
+            int up = engine.getDealerUpCard().getId();
+            while (engine.getPhase() == RoundEngine.Phase.PLAYER_TURN) {
+                int seat = engine.getTurn();
+                if (strategy.hit(players[seat].getHand(), up)) engine.hit(seat);
+                else engine.stand(seat);
+            }
+
+            //딜러 턴과 정산
+            engine.settle();
+            st.rounds++;
+
+            if ((r + 1) % stride == 0 && point < curvePoints) st.curve[point++] = st.net;
+        }
+
+        //마지막 점까지 채우지 못한 경우 최종 손익으로 채움
+        while (point < curvePoints) st.curve[point++] = st.net;
+        return st;
+    }
+
+    //프로그램 시작 지점
+    public static void main(String[] args) {
+        long rounds = 10_000_000L;
+        int seats = 2, bet = 10, decks = 6, curve = 20;
+        double penetration = 0.75;
+        String strategy = "basic";
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+
+        for (String a : args) {
+            String v = a.substring(a.indexOf('=') + 1);
+            if (a.startsWith("--rounds=")) rounds = Long.parseLong(v);
+            else if (a.startsWith("--seats=")) seats = Integer.parseInt(v);
+            else if (a.startsWith("--bet=")) bet = Integer.parseInt(v);
+            else if (a.startsWith("--decks=")) decks = Integer.parseInt(v);
+            else if (a.startsWith("--penetration=")) penetration = Double.parseDouble(v);
+            else if (a.startsWith("--strategy=")) strategy = v;
+            else if (a.startsWith("--threads=")) threads = Integer.parseInt(v);
+            else if (a.startsWith("--curve=")) curve = Integer.parseInt(v);
+            else if (a.startsWith("--seed=")) seed = Long.parseLong(v);
+        }
+
+        Simulator sim = new Simulator(seats, bet, decks, penetration, Strategies.byName(strategy));
+
+        System.out.println("==== Blackjack Simulator ====");
+        System.out.printf("라운드 %,d | 플레이어 %d | 배팅 %d | %d덱 (컷 %.0f%%) | 전략 %s | 스레드 %d%n",
+                rounds, seats, bet, decks, penetration * 100, strategy, threads);
+
+        long start = System.nanoTime();
+        Stats st = sim.run(rounds, threads, curve, seed);
+        double sec = (System.nanoTime() - start) / 1e9;
+
+        double variance = st.variancePerHand(bet);
+        System.out.printf("소요 시간      : %.2f초 (%,.0f 핸드/분)%n", sec, st.hands / sec * 60);
+        System.out.printf("핸드 수        : %,d (승 %,d / 무 %,d / 패 %,d / 블랙잭 %,d)%n",
+                st.hands, st.wins, st.pushes, st.losses, st.blackjacks);
+        System.out.printf("하우스 엣지    : %.3f%%%n", st.houseEdgePercent());
+        System.out.printf("핸드당 분산    : %.4f (표준편차 %.4f 배팅)%n", variance, Math.sqrt(variance));
+        System.out.printf("플레이어 손익  : %,d칩%n", st.net);
+
+        System.out.println("뱅크롤 곡선 (누적 라운드 -> 누적 손익)");
+        long perPoint = st.rounds / Math.max(1, curve);
+        for (int i = 0; i < curve; i++) {
+            System.out.printf("  %,15d -> %,d%n", (i + 1) * perPoint, st.curve[i]);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package sim;
+
+import model.Card;
+import model.Hand;
+
+/*
+ * Strategies
+ * =================================================
+ * 시뮬레이터에서 이름으로 고를 수 있는 기본 전략 모음
+ *
+ * - dealer     : 딜러와 같은 규칙 (17 미만이면 Hit)
+ * - basic      : Hit/Stand만 가능한 규칙에서의 기본 전략
+ * - never-bust : 버스트 가능성이 없을 때(11 이하)만 Hit
+ * - stand      : 항상 Stand
+ */
+public final class Strategies {
+
+    private Strategies() {}
+
+    //딜러와 같은 규칙
+    public static final Strategy DEALER = (hand, up) -> hand.getValue() < 17;
+
+    //버스트하지 않는 범위에서만 Hit
+    public static final Strategy NEVER_BUST = (hand, up) -> hand.getValue() <= 11;
+
+    //항상 Stand
+    public static final Strategy STAND = (hand, up) -> false;
+
+    /*
+     * BASIC
+     * -------------------------------------------------
+     * 더블/스플릿이 없는 이 게임 규칙에 맞춘 기본 전략
+     * - 소프트 17 이하 Hit, 소프트 18은 딜러 9/10/A일 때 Hit
+     * - 하드 11 이하 Hit, 12는 딜러 4~6이면 Stand
+     * - 하드 13~16은 딜러 2~6이면 Stand, 17 이상 Stand
+     */
+    public static final Strategy BASIC = (hand, up) -> {
+        int v = hand.getValue();
+        int d = Card.valueOf(up);     //딜러 공개 카드 점수 (A=11)
+
+        if (hand.isSoft()) {
+            if (v <= 17) return true;
+            if (v == 18) return d >= 9;
+            return false;
+        }
+
+        if (v <= 11) return true;
+        if (v == 12) return d < 4 || d > 6;
+        if (v <= 16) return d > 6;
+        return false;
+    };
+
+    //이름으로 전략 찾기
+    public static Strategy byName(String name) {
+        return switch (name) {
+            case "dealer" -> DEALER;
+            case "basic" -> BASIC;
+            case "never-bust" -> NEVER_BUST;
+            case "stand" -> STAND;
+            default -> throw new IllegalArgumentException("알 수 없는 전략: " + name);
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package sim;
+
+import model.Hand;
+
+/*
+ * Strategy
+ * =================================================
+ * 시뮬레이션에서 플레이어가 Hit / Stand를 결정하는 전략
+ *
+ * - hand          : 플레이어의 현재 손패
+ * - dealerUpCard  : 딜러의 공개 카드 번호 (Card 번호 0~51)
+ * - 반환값         : true면 Hit, false면 Stand
+ *
+ * 매 결정마다 호출되므로 구현은 객체를 만들지 않는 것이 좋음
+ */
+@FunctionalInterface
+public interface Strategy {
+    boolean hit(Hand hand, int dealerUpCard);
+}